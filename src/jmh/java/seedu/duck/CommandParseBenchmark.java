@@ -0,0 +1,74 @@
+package seedu.duck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to split a command line into words and find its handler, per line,
+ * over command lines taken from the user guide. The legacy variant is the trim, replaceAll and
+ * split that the parser used before the command registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParseBenchmark {
+    private static final String[] CORPUS = {
+        "list",
+        "list 7 --top 5",
+        "list --page 2 --size 20",
+        "/todo read book",
+        "return book /by 2023-04-05 1800",
+        "project meeting /from 2023-04-05 1400 /to 2023-04-05 1600",
+        "/re  weekly   quiz /by 2359 /day SUNDAY",
+        "/re gym /from 1800 /to 2000 /day MONDAY",
+        "CS2113 /class lecture /day FRIDAY /from 1600 /to 1800",
+        "mark 3",
+        "mark 3-40",
+        "unmark 1,4,7-9",
+        "delete done",
+        "priority 2 3",
+        "find ~lecutre",
+        "query type:deadline priority>=2 due<7d",
+        "free 2 60",
+        "conflicts 2023-04-05 2023-04-12",
+        "remind 30",
+        "stats",
+    };
+
+    private final CommandLine command = new CommandLine();
+
+    @Benchmark
+    @OperationsPerInvocation(20)
+    public void registry(Blackhole blackhole) {
+        for (String line : CORPUS) {
+            command.tokenize(line);
+            blackhole.consume(Parser.getCommand(command.getCommand()));
+            blackhole.consume(command.getWordCount());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(20)
+    public void legacySplit(Blackhole blackhole) {
+        for (String line : CORPUS) {
+            line = line.trim().replaceAll("\\s{2,}", " ");
+            String[] words = line.split(" ");
+            blackhole.consume(Parser.getCommand(words[0]));
+            blackhole.consume(words.length);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.duck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duck.task.Event;
+import seedu.duck.task.RecurringEvent;
+import seedu.duck.task.SchoolClass;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken by the free command over a week, for schedules with thousands of
+ * classes, recurring events and dated events
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeSlotBenchmark {
+    @Param({"1000", "5000"})
+    private int entries;
+
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        TaskList.clearIndexes();
+        Random random = new Random(2113);
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+        now = LocalDateTime.of(2026, 10, 19, 8, 0);
+        for (int i = 0; i < entries; i++) {
+            int startMinute = random.nextInt(23 * 60);
+            int endMinute = startMinute + 30 + random.nextInt(60);
+            String start = String.format("%02d%02d", startMinute / 60, startMinute % 60);
+            String end = String.format("%02d%02d", Math.min(endMinute, 1439) / 60, Math.min(endMinute, 1439) % 60);
+            DayOfWeek day = DayOfWeek.of(1 + random.nextInt(7));
+            if (i % 3 == 0) {
+                TaskList.indexClass(new SchoolClass("CS" + i, "", day, start, end));
+            } else if (i % 3 == 1) {
+                TaskList.indexTask(new RecurringEvent("recurring " + i, start, end, day));
+            } else {
+                LocalDateTime eventStart = now.plusMinutes(random.nextInt(14 * 24 * 60));
+                LocalDateTime eventEnd = eventStart.plusMinutes(30 + random.nextInt(90));
+                TaskList.indexTask(new Event("event " + i, dateFormat.format(eventStart), dateFormat.format(eventEnd)));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<long[]> freeThisWeek() {
+        return FreeSlotFinder.findFreeSlots(now, now.plusDays(7), 30);
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.duck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to describe how long it is until each of 1000 deadlines, as the upcoming
+ * deadlines are shown at startup. The legacy variant is the floating point month arithmetic and
+ * string concatenation that Ui used before RelativeTime, kept here for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelativeTimeBenchmark {
+    private static final int DEADLINES = 1000;
+
+    private final StringBuilder line = new StringBuilder();
+    private LocalDateTime now;
+    private LocalDateTime[] deadlines;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(2113);
+        now = LocalDateTime.of(2026, 10, 19, 8, 0);
+        deadlines = new LocalDateTime[DEADLINES];
+        for (int i = 0; i < DEADLINES; i++) {
+            deadlines[i] = now.plusMinutes(random.nextInt(60 * 24 * 800));
+        }
+    }
+
+    @Benchmark
+    public int relativeTime() {
+        int length = 0;
+        for (LocalDateTime deadline : deadlines) {
+            line.setLength(0);
+            length += RelativeTime.append(line, now, deadline).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int legacyTimeDiff() {
+        int length = 0;
+        for (LocalDateTime deadline : deadlines) {
+            length += legacyTimeDiff(Duration.between(now, deadline).toMillis()).length();
+        }
+        return length;
+    }
+
+    private static String legacyTimeDiff(long milliseconds) {
+        long minutes = milliseconds / (60 * 1000) % 60;
+        long hours = milliseconds / (60 * 60 * 1000) % 24;
+        long days = (long) (milliseconds / (60 * 60 * 1000 * 24) % 30.41666666);
+        long months = (long) (milliseconds / (60 * 60 * 1000 * 24 * 30.41666666)) % 12;
+        long years = (long) (milliseconds / (60 * 60 * 1000 * 24 * 30.41666666 * 12));
+        String result = "";
+        long[] counts = {years, months, days, hours, minutes};
+        String[] units = {"year", "month", "day", "hour", "minute"};
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                result += counts[i] + " " + units[i] + (counts[i] != 1 ? "s" : "") + " ";
+            }
+        }
+        return result;
+    }
+}
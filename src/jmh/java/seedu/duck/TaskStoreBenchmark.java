@@ -0,0 +1,176 @@
+package seedu.duck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to read the whole task list with 1, 4 and 16 reader threads while one writer
+ * thread keeps changing it. Snapshot readers take the store's snapshot of task views without locking,
+ * and locked readers hold the read lock while they read the tasks. The writer pauses between changes for about
+ * as long as a command takes, so the views are made once per change rather than once per read.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskStoreBenchmark {
+    private static final long WRITE_PAUSE_TOKENS = 100_000;
+
+    @Param({"1000", "10000"})
+    private int tasks;
+
+    private TaskStore store;
+    private boolean isDone;
+
+    @Setup
+    public void setUp() {
+        ArrayList<Task> taskList = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            taskList.add(new Todo("task " + i));
+        }
+        store = new TaskStore(taskList, new ClassSchedule());
+    }
+
+    @Benchmark
+    @Group("snapshot1")
+    @GroupThreads(1)
+    public int snapshotRead1() {
+        return readSnapshot();
+    }
+
+    @Benchmark
+    @Group("snapshot1")
+    @GroupThreads(1)
+    public void snapshotWrite1() throws IOException {
+        write();
+    }
+
+    @Benchmark
+    @Group("snapshot4")
+    @GroupThreads(4)
+    public int snapshotRead4() {
+        return readSnapshot();
+    }
+
+    @Benchmark
+    @Group("snapshot4")
+    @GroupThreads(1)
+    public void snapshotWrite4() throws IOException {
+        write();
+    }
+
+    @Benchmark
+    @Group("snapshot16")
+    @GroupThreads(16)
+    public int snapshotRead16() {
+        return readSnapshot();
+    }
+
+    @Benchmark
+    @Group("snapshot16")
+    @GroupThreads(1)
+    public void snapshotWrite16() throws IOException {
+        write();
+    }
+
+    @Benchmark
+    @Group("locked1")
+    @GroupThreads(1)
+    public int lockedRead1() throws IOException {
+        return readLocked();
+    }
+
+    @Benchmark
+    @Group("locked1")
+    @GroupThreads(1)
+    public void lockedWrite1() throws IOException {
+        write();
+    }
+
+    @Benchmark
+    @Group("locked4")
+    @GroupThreads(4)
+    public int lockedRead4() throws IOException {
+        return readLocked();
+    }
+
+    @Benchmark
+    @Group("locked4")
+    @GroupThreads(1)
+    public void lockedWrite4() throws IOException {
+        write();
+    }
+
+    @Benchmark
+    @Group("locked16")
+    @GroupThreads(16)
+    public int lockedRead16() throws IOException {
+        return readLocked();
+    }
+
+    @Benchmark
+    @Group("locked16")
+    @GroupThreads(1)
+    public void lockedWrite16() throws IOException {
+        write();
+    }
+
+    private int readSnapshot() {
+        int count = 0;
+        for (TaskStore.TaskView view : store.snapshot().getTasks()) {
+            if (view.isDone()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int readLocked() throws IOException {
+        int[] count = new int[1];
+        store.read((taskList, classes) -> count[0] = countDone(taskList));
+        return count[0];
+    }
+
+    private void write() throws IOException {
+        Blackhole.consumeCPU(WRITE_PAUSE_TOKENS);
+        isDone = !isDone;
+        store.write((taskList, classes) -> {
+            if (isDone) {
+                taskList.get(0).markAsDone();
+            } else {
+                taskList.get(0).markAsNotDone();
+            }
+        });
+    }
+
+    private static int countDone(List<Task> taskList) {
+        int count = 0;
+        for (Task task : taskList) {
+            if (task.getStatusIcon().equals("X")) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.duck;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the time taken to find the soonest deadlines and events in the next 30 days, for lists
+ * with thousands of tasks. The top K variant only reads the days up to the K-th occurrence, so it
+ * should depend on K and the number of tasks per day rather than on the size of the list, unlike
+ * reading every occurrence in the window. Every recurring task is still expanded once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopUpcomingBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int tasks;
+
+    @Param({"5", "50"})
+    private int top;
+
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        TaskList.clearIndexes();
+        Random random = new Random(2113);
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+        now = LocalDateTime.of(2026, 10, 19, 8, 0);
+        for (int i = 0; i < tasks; i++) {
+            LocalDateTime time = now.plusMinutes(random.nextInt(60 * 24 * 60));
+            if (i % 2 == 0) {
+                TaskList.indexTask(new Deadline("deadline " + i, dateFormat.format(time)));
+            } else {
+                TaskList.indexTask(new Event("event " + i, dateFormat.format(time),
+                        dateFormat.format(time.plusHours(1))));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<RecurrenceEngine.Occurrence> topUpcoming() {
+        return RecurrenceEngine.between(now, now.plusDays(30), task -> true).limit(top)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<RecurrenceEngine.Occurrence> allUpcoming() {
+        return RecurrenceEngine.between(now, now.plusDays(30), task -> true)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.duck;
+
+import seedu.duck.task.SchoolClass;
+import seedu.duck.util.DateTimeCodec;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * The weekly class schedule, kept sorted by day and start time.
+ * Adding, removing and finding the next class take O(log n) time, and iterating
+ * goes through the classes in chronological order without copying.
+ */
+public class ClassSchedule implements Iterable<SchoolClass> {
+    private static final String EARLIEST_TIME = "0000";
+
+    private final TreeSet<SchoolClass> classes = new TreeSet<>();
+
+    /**
+     * Adds a class to the schedule
+     *
+     * @param schoolClass The class to add
+     * @return true if an equal class was not already in the schedule
+     */
+    public boolean add(SchoolClass schoolClass) {
+        return classes.add(schoolClass);
+    }
+
+    /**
+     * Removes the class equal to the given class from the schedule
+     *
+     * @param schoolClass The class to remove
+     * @return true if a class was removed
+     */
+    public boolean remove(SchoolClass schoolClass) {
+        return classes.remove(schoolClass);
+    }
+
+    public void clear() {
+        classes.clear();
+    }
+
+    public int size() {
+        return classes.size();
+    }
+
+    public boolean isEmpty() {
+        return classes.isEmpty();
+    }
+
+    /**
+     * Returns the classes on a day, ordered by start time
+     *
+     * @param day The day of the week
+     * @return A read-only view of the classes on that day
+     */
+    public NavigableSet<SchoolClass> getClasses(DayOfWeek day) {
+        NavigableSet<SchoolClass> classesOnDay;
+        if (day == DayOfWeek.SUNDAY) {
+            classesOnDay = classes.tailSet(earliestOn(day), true);
+        } else {
+            classesOnDay = classes.subSet(earliestOn(day), true, earliestOn(day.plus(1)), false);
+        }
+        return Collections.unmodifiableNavigableSet(classesOnDay);
+    }
+
+    /**
+     * Returns the first class starting at or after the given day and time, wrapping
+     * around to the start of the week if there are no more classes this week
+     *
+     * @param day The day of the week
+     * @param time The time of the day
+     * @return The next class, or null if the schedule is empty
+     */
+    public SchoolClass getNextClass(DayOfWeek day, LocalTime time) {
+        SchoolClass probe = new SchoolClass("", "", day, DateTimeCodec.formatTime(time), EARLIEST_TIME);
+        SchoolClass next = classes.ceiling(probe);
+        if (next == null && !classes.isEmpty()) {
+            next = classes.first();
+        }
+        return next;
+    }
+
+    /**
+     * Iterates through the classes in chronological order
+     *
+     * @return An iterator over the classes
+     */
+    @Override
+    public Iterator<SchoolClass> iterator() {
+        return Collections.unmodifiableSet(classes).iterator();
+    }
+
+    private static SchoolClass earliestOn(DayOfWeek day) {
+        return new SchoolClass("", "", day, EARLIEST_TIME, EARLIEST_TIME);
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.duck;
+
+import java.util.Arrays;
+
+/**
+ * A line of user input split into words in a single pass. Runs of whitespace are collapsed into
+ * one space, and the words are kept as offsets into the collapsed line, so reading the command
+ * word, a flag such as /by or the text after a word does not scan the line again.
+ * The same instance can be reused for every line read.
+ */
+public class CommandLine {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private String line = "";
+    private int[] wordStarts = new int[INITIAL_CAPACITY];
+    private int[] wordEnds = new int[INITIAL_CAPACITY];
+    private int wordCount;
+    private String[] words;
+
+    /**
+     * Splits a line of user input into words
+     *
+     * @param input The line typed by the user
+     * @return The split line
+     */
+    static CommandLine parse(String input) {
+        CommandLine command = new CommandLine();
+        command.tokenize(input);
+        return command;
+    }
+
+    /**
+     * Splits a new line of user input into words, replacing the previous line
+     *
+     * @param input The line typed by the user
+     */
+    void tokenize(String input) {
+        buffer.setLength(0);
+        wordCount = 0;
+        words = null;
+        boolean isInWord = false;
+        boolean hasOnlySpaces = true;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (isInWord) {
+                    wordEnds[wordCount++] = buffer.length();
+                    isInWord = false;
+                }
+                hasOnlySpaces &= c == ' ';
+            } else {
+                if (!isInWord) {
+                    if (wordCount == wordStarts.length) {
+                        wordStarts = Arrays.copyOf(wordStarts, wordCount * 2);
+                        wordEnds = Arrays.copyOf(wordEnds, wordCount * 2);
+                    }
+                    if (wordCount > 0) {
+                        buffer.append(' ');
+                    }
+                    wordStarts[wordCount] = buffer.length();
+                    isInWord = true;
+                }
+                buffer.append(c);
+            }
+        }
+        if (isInWord) {
+            wordEnds[wordCount++] = buffer.length();
+        }
+        // The input is already collapsed if nothing was dropped or replaced, so it is not copied
+        line = hasOnlySpaces && buffer.length() == input.length() ? input : buffer.toString();
+    }
+
+    /**
+     * Returns the line with leading and trailing whitespace removed and whitespace between words
+     * collapsed into one space
+     */
+    String getLine() {
+        return line;
+    }
+
+    boolean isBlank() {
+        return wordCount == 0;
+    }
+
+    /**
+     * Returns the first word of the line, or an empty string if the line is blank
+     */
+    String getCommand() {
+        return wordCount == 0 ? "" : getWord(0);
+    }
+
+    int getWordCount() {
+        return wordCount;
+    }
+
+    String getWord(int index) {
+        return line.substring(wordStarts[index], wordEnds[index]);
+    }
+
+    /**
+     * Returns true if the word at an index is exactly the given text, without copying the word
+     */
+    boolean isWord(int index, String text) {
+        return index < wordCount && wordEnds[index] - wordStarts[index] == text.length()
+                && line.startsWith(text, wordStarts[index]);
+    }
+
+    /**
+     * Returns all the words of the line. The array is built on the first call and shared after that.
+     */
+    String[] getWords() {
+        if (words == null) {
+            words = new String[Math.max(wordCount, 1)];
+            words[0] = "";
+            for (int i = 0; i < wordCount; i++) {
+                words[i] = getWord(i);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the text of the line from the start of a word to the end of the line
+     *
+     * @param index The index of the word to start from
+     * @return The rest of the line, or an empty string if there are not that many words
+     */
+    String getRest(int index) {
+        return index < wordCount ? line.substring(wordStarts[index]) : "";
+    }
+
+    /**
+     * Returns true if any word of the line is the given flag, such as /by
+     *
+     * @param flag The flag, including the leading slash
+     */
+    boolean hasFlag(String flag) {
+        return getFlagOffset(flag) >= 0;
+    }
+
+    /**
+     * Returns where the first word that is the given flag starts in the line
+     *
+     * @param flag The flag, including the leading slash
+     * @return The offset of the flag in the line, or -1 if the line does not have the flag
+     */
+    int getFlagOffset(String flag) {
+        for (int i = 0; i < wordCount; i++) {
+            if (line.charAt(wordStarts[i]) == '/' && isWord(i, flag)) {
+                return wordStarts[i];
+            }
+        }
+        return -1;
+    }
+}
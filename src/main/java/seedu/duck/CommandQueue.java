@@ -0,0 +1,250 @@
+package seedu.duck;
+
+import seedu.duck.task.Task;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Applies every change to the tasks on one writer thread, in the order the changes were submitted.
+ * The command line, scripts and the server submit commands and wait for them on the returned futures.
+ * The writer takes all the commands waiting in the queue at once, runs them under a single hold of the
+ * store's write lock and saves once after the whole batch, so a burst of changes from many clients
+ * rewrites the save file once. A future completes only after its batch has been saved.
+ * The queue counts how many commands ran, how deep it got and how long commands waited to run.
+ */
+public class CommandQueue {
+    private static final Submission STOP = new Submission(null, null);
+
+    private final TaskStore store;
+    private final BlockingQueue<Submission> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private boolean isStopped;
+
+    // Changed only by the writer thread
+    private volatile long commandCount;
+    private volatile long batchCount;
+    private volatile int maxBatchSize;
+    private volatile long totalWaitNanos;
+    private volatile long maxWaitNanos;
+
+    /**
+     * A command waiting to be run, with the buffer to capture what it prints into, if any
+     */
+    private static class Submission {
+        private final TaskStore.Action action;
+        private final OutputStream output;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final long submittedNanos = System.nanoTime();
+
+        private Submission(TaskStore.Action action, OutputStream output) {
+            this.action = action;
+            this.output = output;
+        }
+    }
+
+    /**
+     * Starts the writer thread for a store
+     *
+     * @param store The tasks and classes that the commands change
+     */
+    CommandQueue(TaskStore store) {
+        this.store = store;
+        writer = new Thread(this::run, "writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a command to run on the writer thread
+     *
+     * @param action The command
+     * @param output The buffer to capture what the command prints into, or null to print it as usual
+     * @return A future that completes once the command has run and its changes have been saved,
+     *     or completes exceptionally with what the command threw
+     */
+    synchronized CompletableFuture<Void> submit(TaskStore.Action action, OutputStream output) {
+        Submission submission = new Submission(action, output);
+        if (isStopped) {
+            submission.result.completeExceptionally(new IllegalStateException("The command queue has stopped"));
+        } else {
+            queue.add(submission);
+        }
+        return submission.result;
+    }
+
+    /**
+     * Runs a command on the writer thread and waits for it, printing what it prints as usual
+     */
+    void execute(TaskStore.Action action) throws IOException {
+        execute(action, null);
+    }
+
+    /**
+     * Runs a command on the writer thread and waits for it. Anything the command throws is thrown here.
+     *
+     * @param action The command
+     * @param output The buffer to capture what the command prints into, or null to print it as usual
+     * @throws IOException if the command throws one, or if this thread is interrupted while waiting
+     */
+    void execute(TaskStore.Action action, OutputStream output) throws IOException {
+        try {
+            submit(action, output).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a command");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Runs a command that only reads the tasks on this thread under the store's read lock, instead of
+     * queueing it for the writer thread. It is not counted in the queue's statistics.
+     *
+     * @param action The command
+     * @throws IOException if the command throws one
+     */
+    void read(TaskStore.Action action) throws IOException {
+        store.read(action);
+    }
+
+    /**
+     * Runs the commands already queued, then stops the writer thread. Commands submitted after this
+     * fail with an IllegalStateException.
+     */
+    void stop() {
+        synchronized (this) {
+            if (isStopped) {
+                return;
+            }
+            isStopped = true;
+            queue.add(STOP);
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getCommandCount() {
+        return commandCount;
+    }
+
+    long getBatchCount() {
+        return batchCount;
+    }
+
+    int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Returns the mean time that a command waited in the queue before it started to run
+     */
+    long getMeanWaitNanos() {
+        long count = commandCount;
+        return count == 0 ? 0 : totalWaitNanos / count;
+    }
+
+    long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    private void run() {
+        List<Submission> batch = new ArrayList<>();
+        boolean isStopping = false;
+        while (!isStopping) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            isStopping = batch.remove(STOP);
+            if (!batch.isEmpty()) {
+                runBatch(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Runs a batch of commands under one hold of the write lock and saves once at the end, unless
+     * saves are already being held back by a script
+     */
+    private void runBatch(List<Submission> batch) {
+        List<Throwable> failures = new ArrayList<>(batch.size());
+        try {
+            store.write((tasks, classes) -> {
+                // A script defers saves for its whole run, and then this batch leaves them to it
+                boolean isBatchDeferringSaves = !Storage.areSavesDeferred();
+                if (isBatchDeferringSaves) {
+                    Storage.deferSaves();
+                }
+                for (Submission submission : batch) {
+                    failures.add(runCommand(submission, tasks, classes));
+                }
+                if (isBatchDeferringSaves) {
+                    Storage.finishDeferredSaves(tasks, classes);
+                }
+            });
+        } catch (IOException e) {
+            // Every command's exception has already been caught, and saving reports its own errors
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Submission submission = batch.get(i);
+            if (failures.get(i) == null) {
+                submission.result.complete(null);
+            } else {
+                submission.result.completeExceptionally(failures.get(i));
+            }
+        }
+        batchCount++;
+        maxBatchSize = Math.max(maxBatchSize, batch.size());
+    }
+
+    /**
+     * Runs one command, capturing what it prints if it was submitted with a buffer
+     *
+     * @return What the command threw, or null if it ran normally
+     */
+    private Throwable runCommand(Submission submission, ArrayList<Task> tasks, ClassSchedule classes) {
+        long waitNanos = System.nanoTime() - submission.submittedNanos;
+        commandCount++;
+        totalWaitNanos += waitNanos;
+        maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        if (submission.output != null) {
+            OutputSink.startCapture(submission.output);
+        }
+        try {
+            submission.action.run(tasks, classes);
+            return null;
+        } catch (Throwable e) {
+            // Anything a command throws goes back to whoever submitted it, so the writer keeps running
+            return e;
+        } finally {
+            if (submission.output != null) {
+                System.out.flush();
+                OutputSink.stopCapture();
+            }
+        }
+    }
+}
@@ -0,0 +1,488 @@
+package seedu.duck;
+
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurring;
+import seedu.duck.task.RecurringEvent;
+import seedu.duck.task.SchoolClass;
+import seedu.duck.task.Task;
+import seedu.duck.util.DateTimeCodec;
+import seedu.duck.util.IntervalTree;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the time ranges of events and classes in interval trees so that overlapping
+ * items can be found without comparing against every event and class.
+ * Classes and recurring events repeat on a day of the week, so they are stored as minutes
+ * from the start of the week, and recurring events that skip weeks are checked against
+ * their recurrence rule when their occurrences are listed. Dated events are stored by their actual time.
+ * A class or recurring event is checked against the dated events from now until its end date, if it has one,
+ * by mapping it into the week of each of those events.
+ */
+public class ConflictIndex {
+    static final long MINUTES_PER_DAY = 24 * 60;
+    static final long MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private static final IntervalTree<Task> datedEvents = new IntervalTree<>();
+    private static final IntervalTree<Task> weeklyItems = new IntervalTree<>();
+
+    /**
+     * An overlap between two items, starting at a given time
+     */
+    static class Conflict {
+        private final Task first;
+        private final Task second;
+        private final LocalDateTime start;
+
+        Conflict(Task first, Task second, LocalDateTime start) {
+            this.first = first;
+            this.second = second;
+            this.start = start;
+        }
+
+        Task getFirst() {
+            return first;
+        }
+
+        Task getSecond() {
+            return second;
+        }
+
+        LocalDateTime getStart() {
+            return start;
+        }
+    }
+
+    /**
+     * A single occurrence of an event or class
+     */
+    static class Occurrence {
+        private final Task task;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private Occurrence(Task task, LocalDateTime start, LocalDateTime end) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+        }
+
+        Task getTask() {
+            return task;
+        }
+
+        LocalDateTime getStart() {
+            return start;
+        }
+
+        LocalDateTime getEnd() {
+            return end;
+        }
+    }
+
+    /**
+     * Adds an event to the index. Tasks that are not events are ignored.
+     *
+     * @param task The task that has been added to the list
+     */
+    static void add(Task task) {
+        try {
+            if (task instanceof RecurringEvent) {
+                long[] range = getWeeklyRange((RecurringEvent) task);
+                insertWrapped(weeklyItems, range[0], range[1], task);
+            } else if (task instanceof Event) {
+                LocalDateTime[] range = getDatedRange((Event) task);
+                datedEvents.insert(toMinutes(range[0]), toMinutes(range[1]), task);
+            }
+        } catch (DateTimeException e) {
+            // Events with times that cannot be read are left out of the index
+        }
+    }
+
+    /**
+     * Removes an event from the index. Tasks that are not events are ignored.
+     *
+     * @param task The task that has been removed from the list
+     */
+    static void remove(Task task) {
+        try {
+            if (task instanceof RecurringEvent) {
+                long[] range = getWeeklyRange((RecurringEvent) task);
+                removeWrapped(weeklyItems, range[0], range[1], task);
+            } else if (task instanceof Event) {
+                LocalDateTime[] range = getDatedRange((Event) task);
+                datedEvents.remove(toMinutes(range[0]), task);
+            }
+        } catch (DateTimeException e) {
+            // Events with times that cannot be read were never added
+        }
+    }
+
+    static void addClass(SchoolClass schoolClass) {
+        try {
+            long[] range = getWeeklyRange(schoolClass);
+            insertWrapped(weeklyItems, range[0], range[1], schoolClass);
+        } catch (DateTimeException e) {
+            // Classes with times that cannot be read are left out of the index
+        }
+    }
+
+    static void removeClass(SchoolClass schoolClass) {
+        try {
+            long[] range = getWeeklyRange(schoolClass);
+            removeWrapped(weeklyItems, range[0], range[1], schoolClass);
+        } catch (DateTimeException e) {
+            // Classes with times that cannot be read were never added
+        }
+    }
+
+    static void clear() {
+        datedEvents.clear();
+        weeklyItems.clear();
+    }
+
+    /**
+     * Finds the events and classes that overlap an event or class which has not been added to the index yet
+     *
+     * @param task The event, recurring event or class to check
+     * @return The items it overlaps with, or an empty list if it is not an event or class
+     */
+    static List<Task> findConflicts(Task task) {
+        return findConflicts(task, LocalDateTime.now());
+    }
+
+    /**
+     * Finds the events and classes that overlap an event or class which has not been added to the index yet.
+     * Classes and recurring events are only checked against dated events that end after a given time.
+     *
+     * @param task The event, recurring event or class to check
+     * @param now The time before which dated events are ignored
+     * @return The items it overlaps with, or an empty list if it is not an event or class
+     */
+    static List<Task> findConflicts(Task task, LocalDateTime now) {
+        Set<Task> conflicts = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            if (task instanceof RecurringEvent || task instanceof SchoolClass) {
+                long[] range = getWeeklyRange(task);
+                Set<Task> weeklyCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+                queryWrapped(weeklyItems, range[0], range[1], weeklyCandidates);
+                for (Task weeklyTask : weeklyCandidates) {
+                    if (weeklyTask != task && sharesOccurrence(task, weeklyTask, now)) {
+                        conflicts.add(weeklyTask);
+                    }
+                }
+                LocalDate until = getUntil(task);
+                // An occurrence on the last date may run past midnight into the next day
+                long scanEnd = until == null ? Long.MAX_VALUE : toMinutes(until.plusDays(2).atStartOfDay());
+                datedEvents.queryIntervals(toMinutes(now), scanEnd, (start, end, event) -> {
+                    if (occursBetween(task, start, end)) {
+                        conflicts.add(event);
+                    }
+                });
+            } else if (task instanceof Event) {
+                LocalDateTime[] range = getDatedRange((Event) task);
+                conflicts.addAll(datedEvents.query(toMinutes(range[0]), toMinutes(range[1])));
+                Set<Task> weeklyCandidates = Collections.newSetFromMap(new IdentityHashMap<>());
+                long projectedStart = toWeekMinutes(range[0]);
+                queryWrapped(weeklyItems, projectedStart, projectedStart + getLength(range), weeklyCandidates);
+                for (Task weeklyTask : weeklyCandidates) {
+                    if (occursBetween(weeklyTask, toMinutes(range[0]), toMinutes(range[1]))) {
+                        conflicts.add(weeklyTask);
+                    }
+                }
+            }
+        } catch (DateTimeException e) {
+            return new ArrayList<>();
+        }
+        conflicts.remove(task);
+        return new ArrayList<>(conflicts);
+    }
+
+    /**
+     * Returns true if a class or recurring event has an occurrence overlapping a range of minutes,
+     * which maps it into the week of that range and checks the recurrence rule of recurring events
+     */
+    private static boolean occursBetween(Task weeklyTask, long start, long end) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        addWeeklyOccurrences(weeklyTask, fromMinutes(start), fromMinutes(end), occurrences);
+        return !occurrences.isEmpty();
+    }
+
+    /**
+     * Returns true if two classes or recurring events that overlap in the week have occurrences that overlap
+     * after a given time. The occurrences are checked until the earlier end date of the two, or until both
+     * keep to their pattern and the weeks they share have come around once.
+     */
+    private static boolean sharesOccurrence(Task first, Task second, LocalDateTime now) {
+        if (isEveryWeek(first) && isEveryWeek(second)) {
+            return true;
+        }
+        LocalDate regularFrom = laterOf(laterOf(now.toLocalDate(), getRegularFrom(first)), getRegularFrom(second));
+        int firstInterval = getIntervalWeeks(first);
+        int secondInterval = getIntervalWeeks(second);
+        int sharedWeeks = firstInterval / gcd(firstInterval, secondInterval) * secondInterval;
+        LocalDate to = regularFrom.plusWeeks(sharedWeeks);
+        for (LocalDate until : new LocalDate[]{getUntil(first), getUntil(second)}) {
+            if (until != null && until.isBefore(to)) {
+                to = until;
+            }
+        }
+        List<Occurrence> occurrences = new ArrayList<>();
+        addWeeklyOccurrences(first, now, to.plusDays(1).atStartOfDay(), occurrences);
+        for (Occurrence occurrence : occurrences) {
+            if (occursBetween(second, toMinutes(occurrence.start), toMinutes(occurrence.end))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int getIntervalWeeks(Task task) {
+        return task instanceof Recurring ? ((Recurring) task).getRecurrence().getIntervalWeeks() : 1;
+    }
+
+    private static LocalDate getUntil(Task task) {
+        return task instanceof Recurring ? ((Recurring) task).getRecurrence().getUntil() : null;
+    }
+
+    private static LocalDate getRegularFrom(Task task) {
+        return task instanceof Recurring ? ((Recurring) task).getRecurrence().getRegularFrom() : null;
+    }
+
+    private static LocalDate laterOf(LocalDate date, LocalDate other) {
+        return other != null && other.isAfter(date) ? other : date;
+    }
+
+    private static int gcd(int first, int second) {
+        return second == 0 ? first : gcd(second, first % second);
+    }
+
+    /**
+     * Lists every pair of overlapping events and classes between two dates, using a sweep
+     * over their occurrences ordered by start time
+     *
+     * @param from The first date to check
+     * @param to The last date to check
+     * @return The overlapping pairs, ordered by the time the overlap starts
+     */
+    static List<Conflict> listConflicts(LocalDate from, LocalDate to) {
+        List<Occurrence> occurrences = getOccurrences(from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        List<Conflict> conflicts = new ArrayList<>();
+        List<Occurrence> active = new ArrayList<>();
+        for (Occurrence current : occurrences) {
+            active.removeIf(occurrence -> !occurrence.end.isAfter(current.start));
+            for (Occurrence occurrence : active) {
+                if (occurrence.task != current.task) {
+                    conflicts.add(new Conflict(occurrence.task, current.task, current.start));
+                }
+            }
+            active.add(current);
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns every occurrence of the events, recurring events and classes that overlap a time range.
+     * Only dated events inside the range are visited, found through the interval tree.
+     *
+     * @param rangeStart The start of the range, inclusive
+     * @param rangeEnd The end of the range, exclusive
+     * @return The occurrences, ordered by start time
+     */
+    static List<Occurrence> getOccurrences(LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        for (Task task : datedEvents.query(toMinutes(rangeStart), toMinutes(rangeEnd))) {
+            LocalDateTime[] range = getDatedRange((Event) task);
+            occurrences.add(new Occurrence(task, range[0], range[1]));
+        }
+        Set<Task> weeklyTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        weeklyItems.forEach(weeklyTasks::add);
+        for (Task task : weeklyTasks) {
+            addWeeklyOccurrences(task, rangeStart, rangeEnd, occurrences);
+        }
+        occurrences.sort(Comparator.comparing((Occurrence occurrence) -> occurrence.start));
+        return occurrences;
+    }
+
+    /**
+     * Returns the ranges of the classes and recurring events in minutes from the start of the week
+     *
+     * @return The ranges as start and end pairs, ordered by start
+     */
+    static long[] getWeeklyRanges() {
+        long[] ranges = new long[weeklyItems.size() * 2];
+        int[] count = new int[1];
+        weeklyItems.forEachInterval((start, end, task) -> {
+            if (isEveryWeek(task)) {
+                ranges[count[0]++] = start;
+                ranges[count[0]++] = end;
+            }
+        });
+        return count[0] == ranges.length ? ranges : Arrays.copyOf(ranges, count[0]);
+    }
+
+    /**
+     * Returns the ranges of the dated events overlapping a range, in minutes. Recurring events
+     * that do not happen every week are included here through their occurrences in the range.
+     *
+     * @param rangeStart The start of the range in minutes, inclusive
+     * @param rangeEnd The end of the range in minutes, exclusive
+     * @return The ranges as start and end pairs, ordered by start
+     */
+    static long[] getDatedRanges(long rangeStart, long rangeEnd) {
+        List<long[]> ranges = new ArrayList<>();
+        datedEvents.queryIntervals(rangeStart, rangeEnd, (start, end, task) -> ranges.add(new long[]{start, end}));
+        Set<Task> irregularTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        weeklyItems.forEach(task -> {
+            if (!isEveryWeek(task)) {
+                irregularTasks.add(task);
+            }
+        });
+        if (!irregularTasks.isEmpty()) {
+            List<Occurrence> occurrences = new ArrayList<>();
+            for (Task task : irregularTasks) {
+                addWeeklyOccurrences(task, fromMinutes(rangeStart), fromMinutes(rangeEnd), occurrences);
+            }
+            for (Occurrence occurrence : occurrences) {
+                ranges.add(new long[]{toMinutes(occurrence.start), toMinutes(occurrence.end)});
+            }
+            ranges.sort(Comparator.comparingLong(range -> range[0]));
+        }
+        long[] flattened = new long[ranges.size() * 2];
+        for (int i = 0; i < ranges.size(); i++) {
+            flattened[2 * i] = ranges.get(i)[0];
+            flattened[2 * i + 1] = ranges.get(i)[1];
+        }
+        return flattened;
+    }
+
+    private static void addWeeklyOccurrences(Task task, LocalDateTime rangeStart, LocalDateTime rangeEnd,
+                                             List<Occurrence> occurrences) {
+        DayOfWeek day;
+        LocalTime startTime;
+        LocalTime endTime;
+        if (task instanceof SchoolClass) {
+            day = ((SchoolClass) task).getDay();
+            startTime = DateTimeCodec.parseTime(((SchoolClass) task).getStart());
+            endTime = DateTimeCodec.parseTime(((SchoolClass) task).getEnd());
+        } else {
+            day = ((RecurringEvent) task).getDay();
+            startTime = DateTimeCodec.parseTime(((RecurringEvent) task).getStart());
+            endTime = DateTimeCodec.parseTime(((RecurringEvent) task).getEnd());
+        }
+        // Start a day early so that an occurrence running past midnight into the range is included
+        LocalDate date = rangeStart.toLocalDate().minusDays(1).with(TemporalAdjusters.nextOrSame(day));
+        for (; date.atStartOfDay().isBefore(rangeEnd); date = date.plusWeeks(1)) {
+            if (task instanceof Recurring && !((Recurring) task).getRecurrence().occursOn(date)) {
+                continue;
+            }
+            LocalDateTime start = date.atTime(startTime);
+            LocalDateTime end = endTime.isAfter(startTime) ? date.atTime(endTime) : date.plusDays(1).atTime(endTime);
+            if (end.isAfter(rangeStart) && start.isBefore(rangeEnd)) {
+                occurrences.add(new Occurrence(task, start, end));
+            }
+        }
+    }
+
+    private static long[] getWeeklyRange(Task task) {
+        DayOfWeek day;
+        String start;
+        String end;
+        if (task instanceof SchoolClass) {
+            day = ((SchoolClass) task).getDay();
+            start = ((SchoolClass) task).getStart();
+            end = ((SchoolClass) task).getEnd();
+        } else {
+            day = ((RecurringEvent) task).getDay();
+            start = ((RecurringEvent) task).getStart();
+            end = ((RecurringEvent) task).getEnd();
+        }
+        long dayStart = (day.getValue() - 1) * MINUTES_PER_DAY;
+        long startMinutes = dayStart + DateTimeCodec.parseTime(start).toSecondOfDay() / 60;
+        long endMinutes = dayStart + DateTimeCodec.parseTime(end).toSecondOfDay() / 60;
+        if (endMinutes <= startMinutes) {
+            // Ends on the next day
+            endMinutes += MINUTES_PER_DAY;
+        }
+        return new long[]{startMinutes, endMinutes};
+    }
+
+    private static LocalDateTime[] getDatedRange(Event event) {
+        return new LocalDateTime[]{DateTimeCodec.parseDateTime(event.getStart()),
+            DateTimeCodec.parseDateTime(event.getEnd())};
+    }
+
+    private static long getLength(LocalDateTime[] range) {
+        return toMinutes(range[1]) - toMinutes(range[0]);
+    }
+
+    /**
+     * Returns true if a weekly item happens every week, so that its weekly range can be
+     * repeated for every week without checking its recurrence rule
+     */
+    private static boolean isEveryWeek(Task task) {
+        return !(task instanceof Recurring) || ((Recurring) task).getRecurrence().isEveryWeek();
+    }
+
+    static LocalDateTime fromMinutes(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+
+    static long toMinutes(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    static long toWeekMinutes(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + dateTime.toLocalTime().toSecondOfDay() / 60;
+    }
+
+    /**
+     * Inserts a range of minutes in the week, splitting ranges that run past the end of
+     * the week into a part at the end and a part at the start of the week
+     */
+    private static void insertWrapped(IntervalTree<Task> tree, long start, long end, Task task) {
+        if (end - start >= MINUTES_PER_WEEK) {
+            tree.insert(0, MINUTES_PER_WEEK, task);
+        } else if (end > MINUTES_PER_WEEK) {
+            tree.insert(start, MINUTES_PER_WEEK, task);
+            tree.insert(0, end - MINUTES_PER_WEEK, task);
+        } else {
+            tree.insert(start, end, task);
+        }
+    }
+
+    private static void removeWrapped(IntervalTree<Task> tree, long start, long end, Task task) {
+        if (end - start >= MINUTES_PER_WEEK) {
+            tree.remove(0, task);
+        } else if (end > MINUTES_PER_WEEK) {
+            tree.remove(start, task);
+            tree.remove(0, task);
+        } else {
+            tree.remove(start, task);
+        }
+    }
+
+    private static void queryWrapped(IntervalTree<Task> tree, long start, long end, Set<Task> result) {
+        if (end - start >= MINUTES_PER_WEEK) {
+            result.addAll(tree.query(0, MINUTES_PER_WEEK));
+        } else if (end > MINUTES_PER_WEEK) {
+            result.addAll(tree.query(start, MINUTES_PER_WEEK));
+            result.addAll(tree.query(0, end - MINUTES_PER_WEEK));
+        } else {
+            result.addAll(tree.query(start, end));
+        }
+    }
+}
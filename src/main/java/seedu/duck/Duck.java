@@ -1,34 +1,151 @@
 package seedu.duck;
 
-import seedu.duck.task.SchoolClass;
 import seedu.duck.task.Task;
 
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Scanner;
-import java.util.PriorityQueue;
 
 public class Duck {
     /** Runs the Duck bot */
     private static void runDuck() throws IOException {
         Ui.greetingMessage();
 
-        PriorityQueue<SchoolClass> classes = new PriorityQueue<>();
+        ClassSchedule classes = new ClassSchedule();
         ArrayList<Task> tasks = new ArrayList<>();
         Storage.tryLoad(tasks, classes);
         TaskList.purge(tasks, classes);
         Ui.displayUpcomingDeadline(tasks);
         Ui.displayUpcomingEvent(tasks);
+        TaskStore store = new TaskStore(tasks, classes);
+        ReminderScheduler.start(store);
         String line;
-        Scanner in = new Scanner(System.in);
-        line = in.nextLine();
+        line = Ui.readLine();
 
-        Parser.processCommand(tasks, classes, line, in);
+        CommandQueue queue = new CommandQueue(store);
+        try {
+            Parser.processCommand(queue, line, Ui.getInput());
+        } finally {
+            queue.stop();
+        }
 
+        ReminderScheduler.stop();
         Ui.exitMessage();
+        OutputSink.flush();
     }
 
+    /**
+     * Runs the commands in a script without the greeting, upcoming tasks, startup purge or reminders.
+     * The save file is written once after the last command.
+     * The number of commands run per second and how long they waited in the command queue are reported
+     * on the error stream.
+     *
+     * @param path The path of the script, or - to read the commands from the standard input
+     */
+    private static void runScript(String path) throws IOException {
+        InputStream script;
+        try {
+            script = path.equals("-") ? System.in : new FileInputStream(path);
+        } catch (FileNotFoundException e) {
+            Ui.scriptNotFoundMessage(path);
+            return;
+        }
+        Ui.setInput(script);
+
+        ClassSchedule classes = new ClassSchedule();
+        ArrayList<Task> tasks = new ArrayList<>();
+        Storage.tryLoad(tasks, classes);
+        Storage.deferSaves();
+        long start = System.nanoTime();
+        int commandCount = 0;
+        CommandQueue queue = new CommandQueue(new TaskStore(tasks, classes));
+        try {
+            if (Ui.getInput().hasNextLine()) {
+                commandCount = Parser.processCommand(queue, Ui.readLine(), Ui.getInput());
+            }
+        } finally {
+            queue.stop();
+        }
+        Storage.finishDeferredSaves(tasks, classes);
+        long elapsedNanos = System.nanoTime() - start;
+        OutputSink.flush();
+        script.close();
+        Ui.scriptSummaryMessage(commandCount, elapsedNanos);
+        Ui.queueSummaryMessage(queue);
+    }
+
+    /**
+     * Serves the tasks over HTTP on the loopback address until Duck is stopped, such as with Ctrl-C.
+     * Expired tasks are purged at startup. Changes from all clients go through one command queue,
+     * and the save file is written after each batch of changes.
+     * How long changes waited in the queue is reported on the error stream when Duck is stopped.
+     *
+     * @param port The port to listen on
+     */
+    private static void runServer(int port) throws IOException {
+        ClassSchedule classes = new ClassSchedule();
+        ArrayList<Task> tasks = new ArrayList<>();
+        Storage.tryLoad(tasks, classes);
+        TaskList.purge(tasks, classes);
+        OutputSink.flush();
+        TaskStore store = new TaskStore(tasks, classes);
+        CommandQueue queue = new CommandQueue(store);
+        int boundPort = DuckServer.start(port, store, queue);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            DuckServer.stop();
+            Ui.queueSummaryMessage(queue);
+        }));
+        Ui.serverMessage(boundPort);
+    }
+
+    /**
+     * Starts Duck. The options are --script followed by a path, --quiet to drop the responses to the
+     * commands, --format jsonl to write them as JSON Lines records and --serve followed by a port.
+     */
     public static void main(String[] args) throws IOException {
-        runDuck();
+        String scriptPath = null;
+        int serverPort = -1;
+        boolean isQuiet = false;
+        boolean isJsonLines = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--script") && i + 1 < args.length) {
+                scriptPath = args[++i];
+            } else if (args[i].equals("--serve") && i + 1 < args.length && Parser.isNumeric(args[i + 1])
+                    && Integer.parseInt(args[i + 1]) >= 0) {
+                serverPort = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--quiet")) {
+                isQuiet = true;
+            } else if (args[i].equals("--format") && i + 1 < args.length && args[i + 1].equals("jsonl")) {
+                isJsonLines = true;
+                i++;
+            } else {
+                Ui.usageMessage();
+                return;
+            }
+        }
+
+        if (serverPort >= 0 && (scriptPath != null || isQuiet || isJsonLines)) {
+            Ui.usageMessage();
+            return;
+        } else if (serverPort >= 0) {
+            OutputSink.useBuffered();
+            runServer(serverPort);
+            return;
+        }
+
+        if (isQuiet) {
+            OutputSink.useQuiet();
+        } else if (isJsonLines) {
+            OutputSink.useJsonLines();
+        } else {
+            OutputSink.useBuffered();
+        }
+        if (scriptPath != null) {
+            runScript(scriptPath);
+        } else {
+            runDuck();
+        }
     }
 }
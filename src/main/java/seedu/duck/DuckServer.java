@@ -0,0 +1,306 @@
+package seedu.duck;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves the task list over HTTP on the loopback address, so that other programs on the same computer
+ * can list, add, mark, unmark, delete, find and look up upcoming tasks. Each endpoint runs the same
+ * command as the command line and answers with the text that the command prints.
+ * Listing the tasks prints a snapshot of the list without locking. Finding and looking up upcoming tasks
+ * use the indexes as well, so they run at the same time under the read lock of the store, and requests
+ * that change the list are queued to run one at a time on the writer thread of the command queue.
+ * A task that cannot be added is answered with 400 and an index that is not in the list with 404,
+ * along with the message that the command printed.
+ * Each request is handled on a virtual thread of its own when the JVM has them, and on a pooled thread
+ * otherwise.
+ */
+public class DuckServer {
+    private static final String TASKS_PATH = "/tasks";
+    private static final String TEXT_TYPE = "text/plain; charset=utf-8";
+    private static final int MAX_BODY_LENGTH = 1 << 16;
+    private static final int OK = 200;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int PAYLOAD_TOO_LARGE = 413;
+    private static final int SERVER_ERROR = 500;
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static TaskStore store;
+    private static CommandQueue queue;
+
+    /**
+     * Prints the response to a request
+     */
+    private interface Response {
+        void print() throws IOException;
+    }
+
+    /**
+     * Starts serving the tasks. Everything printed by the commands run for a request is sent back
+     * in the response, so this replaces System.out with the capturing sink.
+     *
+     * @param port The port to listen on, or 0 for any free port
+     * @param taskStore The tasks and classes, read by requests that do not change them
+     * @param commandQueue The queue that runs the requests that change the tasks
+     * @return The port that the server is listening on
+     * @throws IOException if the port cannot be bound
+     */
+    static int start(int port, TaskStore taskStore, CommandQueue commandQueue) throws IOException {
+        store = taskStore;
+        queue = commandQueue;
+        OutputSink.useCapturing();
+        // Sends each response as soon as it is written, instead of holding the body back until the client
+        // acknowledges the headers, which adds tens of milliseconds to every request
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = newExecutor();
+        server.setExecutor(executor);
+        server.createContext(TASKS_PATH, DuckServer::handle);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, then runs and saves the changes that are already queued
+     */
+    static void stop() {
+        server.stop(0);
+        queue.stop();
+        executor.shutdown();
+    }
+
+    /**
+     * Returns an executor that starts a virtual thread for each request. Duck is built for Java 17,
+     * where virtual threads do not exist, so the factory method is looked up when the server starts.
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (RuntimeException e) {
+            // Once the headers are sent the status cannot change, so the client only sees the response cut short
+            if (exchange.getResponseCode() == -1) {
+                respond(exchange, SERVER_ERROR, "Error: " + e.getMessage() + "\n");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Runs the command for a request. The endpoints are
+     * GET /tasks, with optional page and size parameters,
+     * POST /tasks, with a task in the same form as the command line in the body,
+     * POST /tasks/{index}/mark, POST /tasks/{index}/unmark, DELETE /tasks/{index},
+     * GET /tasks/find?q={keywords} and GET /tasks/upcoming?days={days}, with an optional top parameter.
+     */
+    private static void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String rest = exchange.getRequestURI().getPath().substring(TASKS_PATH.length());
+        String[] path = rest.split("/");
+        String query = exchange.getRequestURI().getRawQuery();
+        if (!rest.isEmpty() && !rest.startsWith("/")) {
+            respond(exchange, NOT_FOUND, "");
+        } else if (path.length <= 1) {
+            if (method.equals("GET")) {
+                listTasks(exchange, query);
+            } else if (method.equals("POST")) {
+                addTask(exchange);
+            } else {
+                respond(exchange, METHOD_NOT_ALLOWED, "");
+            }
+        } else if (path.length == 2 && path[1].equals("find")) {
+            if (method.equals("GET")) {
+                runCommand(exchange, "find " + getParameter(query, "q"));
+            } else {
+                respond(exchange, METHOD_NOT_ALLOWED, "");
+            }
+        } else if (path.length == 2 && path[1].equals("upcoming")) {
+            if (method.equals("GET")) {
+                listUpcoming(exchange, query);
+            } else {
+                respond(exchange, METHOD_NOT_ALLOWED, "");
+            }
+        } else if (path.length == 2 && Parser.isNumeric(path[1])) {
+            if (method.equals("DELETE")) {
+                runTaskCommand(exchange, "delete", path[1]);
+            } else {
+                respond(exchange, METHOD_NOT_ALLOWED, "");
+            }
+        } else if (path.length == 3 && Parser.isNumeric(path[1])
+                && (path[2].equals("mark") || path[2].equals("unmark"))) {
+            if (method.equals("POST")) {
+                runTaskCommand(exchange, path[2], path[1]);
+            } else {
+                respond(exchange, METHOD_NOT_ALLOWED, "");
+            }
+        } else {
+            respond(exchange, NOT_FOUND, "");
+        }
+    }
+
+    private static void listTasks(HttpExchange exchange, String query) throws IOException {
+        String page = getParameter(query, "page");
+        String size = getParameter(query, "size");
+        if (!page.isEmpty() && !isPositive(page) || !size.isEmpty() && !isPositive(size)) {
+            respond(exchange, BAD_REQUEST, "The page and size parameters must be whole numbers above 0.\n");
+            return;
+        }
+        // Printed from a snapshot, so listing does not wait for changes or hold them up
+        List<TaskStore.TaskView> views = store.snapshot().getTasks();
+        String output;
+        if (page.isEmpty() && size.isEmpty()) {
+            output = capture(() -> Ui.listViews(views));
+        } else {
+            int pageNumber = page.isEmpty() ? 1 : Integer.parseInt(page);
+            int pageSize = size.isEmpty() ? Parser.DEFAULT_PAGE_SIZE : Integer.parseInt(size);
+            output = capture(() -> Ui.listViewsPage(views, pageNumber, pageSize));
+        }
+        respond(exchange, OK, output);
+    }
+
+    private static void listUpcoming(HttpExchange exchange, String query) throws IOException {
+        String days = getParameter(query, "days");
+        String top = getParameter(query, "top");
+        if (!Parser.isNumeric(days) || !top.isEmpty() && !Parser.isNumeric(top)) {
+            respond(exchange, BAD_REQUEST, "The days and top parameters must be whole numbers.\n");
+        } else if (top.isEmpty()) {
+            runCommand(exchange, "list " + days);
+        } else {
+            runCommand(exchange, "list " + days + " --top " + top);
+        }
+    }
+
+    private static void addTask(HttpExchange exchange) throws IOException {
+        InputStream body = exchange.getRequestBody();
+        byte[] bytes = body.readNBytes(MAX_BODY_LENGTH + 1);
+        if (bytes.length > MAX_BODY_LENGTH) {
+            respond(exchange, PAYLOAD_TOO_LARGE, "");
+            return;
+        }
+        CommandLine command = CommandLine.parse(new String(bytes, StandardCharsets.UTF_8));
+        if (command.isBlank()) {
+            respond(exchange, BAD_REQUEST, "The body must be a task, such as /todo read book.\n");
+            return;
+        }
+        AtomicInteger status = new AtomicInteger(OK);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        queue.execute((tasks, classes) -> {
+            int count = tasks.size() + classes.size();
+            Parser.addTask(command, tasks, classes);
+            if (tasks.size() + classes.size() == count) {
+                // The command printed why the task was not added
+                status.set(BAD_REQUEST);
+            }
+        }, output);
+        respond(exchange, status.get(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs a command on one task on the writer thread and responds with what it printed. The index is
+     * checked in the same queued action as the command, so that a task deleted just before cannot be missed.
+     *
+     * @param exchange The request
+     * @param word The command word, such as delete or mark
+     * @param index The position of the task in the list, counting from 1
+     */
+    private static void runTaskCommand(HttpExchange exchange, String word, String index) throws IOException {
+        CommandLine command = CommandLine.parse(word + " " + index);
+        Parser.Command handler = Parser.getCommand(word);
+        int taskNumber = Integer.parseInt(index);
+        AtomicInteger status = new AtomicInteger(OK);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        queue.execute((tasks, classes) -> {
+            if (taskNumber < 1 || taskNumber > tasks.size()) {
+                status.set(NOT_FOUND);
+            }
+            handler.execute(command, tasks, classes);
+        }, output);
+        respond(exchange, status.get(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs a command line that does not change the list under the read lock, and responds with what it printed
+     *
+     * @param exchange The request
+     * @param line The command line, starting with the command word
+     */
+    private static void runCommand(HttpExchange exchange, String line) throws IOException {
+        CommandLine command = CommandLine.parse(line);
+        Parser.Command handler = Parser.getCommand(command.getCommand());
+        respond(exchange, OK, capture(() -> store.read((tasks, classes) -> handler.execute(command, tasks, classes))));
+    }
+
+    /**
+     * Returns everything printed by this thread while printing a response
+     */
+    private static String capture(Response response) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        OutputSink.startCapture(buffer);
+        try {
+            response.print();
+            System.out.flush();
+        } finally {
+            OutputSink.stopCapture();
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private static boolean isPositive(String word) {
+        return Parser.isNumeric(word) && Integer.parseInt(word) > 0;
+    }
+
+    /**
+     * Returns the decoded value of a parameter in a query string, or an empty string if it is not there
+     */
+    private static String getParameter(String query, String name) {
+        if (query == null) {
+            return "";
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            String key = equals < 0 ? pair : pair.substring(0, equals);
+            if (key.equals(name)) {
+                return equals < 0 ? "" : URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String text) throws IOException {
+        // Closing the request body reads what is left of it, such as the body of a PUT that was refused,
+        // so that the client can send its next request on the same connection
+        exchange.getRequestBody().close();
+        byte[] body = text.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT_TYPE);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
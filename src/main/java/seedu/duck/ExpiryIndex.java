@@ -0,0 +1,110 @@
+package seedu.duck;
+
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurring;
+import seedu.duck.task.Task;
+import seedu.duck.util.DateTimeCodec;
+import seedu.duck.util.TimingWheel;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tracks when each deadline and event expires using a timing wheel keyed by minute, so that
+ * the tasks which have expired since the last check are found without going through the list.
+ * A deadline expires once its due time has passed, an event once its end time has passed, and
+ * a recurring task once the last date of its recurrence rule has passed.
+ */
+public class ExpiryIndex {
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final Comparator<Task> LIST_ORDER = Comparator.comparingLong(Task::getSequenceNumber);
+
+    private static final TimingWheel<Task> wheel = new TimingWheel<>(getCurrentMinute());
+    private static final Set<Task> expiredTasks = new TreeSet<>(LIST_ORDER);
+
+    /**
+     * Schedules the expiry of a task that has just been added to the list. Todos never expire.
+     *
+     * @param task The task that has been added to the list
+     */
+    static void add(Task task) {
+        long expiry = getExpiry(task);
+        if (expiry != NEVER) {
+            wheel.schedule(task, expiry);
+        }
+    }
+
+    /**
+     * Removes a task from the index, whether or not it has expired
+     *
+     * @param task The task that has been removed from the list
+     */
+    static void remove(Task task) {
+        wheel.cancel(task);
+        expiredTasks.remove(task);
+    }
+
+    static void clear() {
+        wheel.clear();
+        expiredTasks.clear();
+    }
+
+    /**
+     * Returns the tasks that have expired, moving the wheel forward to the current minute first.
+     * Only the tasks that expired since the last call are visited.
+     *
+     * @return A read-only view of the expired tasks, in the order they appear in the list
+     */
+    static Set<Task> getExpiredTasks() {
+        wheel.advanceTo(getCurrentMinute(), task -> {
+            expiredTasks.add(task);
+            TaskStats.expire(task);
+        });
+        return Collections.unmodifiableSet(expiredTasks);
+    }
+
+    /**
+     * Returns true if a task was found to have expired the last time the wheel was moved forward
+     *
+     * @param task The task to check
+     */
+    static boolean isExpired(Task task) {
+        return expiredTasks.contains(task);
+    }
+
+    /**
+     * Returns the first minute at which a task counts as expired
+     *
+     * @param task The task to get the expiry of
+     * @return The expiry in minutes since the epoch, or NEVER if the task does not expire
+     */
+    private static long getExpiry(Task task) {
+        try {
+            if (task instanceof Recurring) {
+                LocalDate until = ((Recurring) task).getRecurrence().getUntil();
+                return until == null ? NEVER : ConflictIndex.toMinutes(until.plusDays(1).atStartOfDay());
+            } else if (task instanceof Deadline) {
+                return getMinuteAfter(((Deadline) task).getDeadline());
+            } else if (task instanceof Event) {
+                return getMinuteAfter(((Event) task).getEnd());
+            }
+        } catch (DateTimeException e) {
+            // Tasks with times that cannot be read never expire
+        }
+        return NEVER;
+    }
+
+    private static long getMinuteAfter(String dateTime) {
+        return ConflictIndex.toMinutes(DateTimeCodec.parseDateTime(dateTime)) + 1;
+    }
+
+    private static long getCurrentMinute() {
+        return ConflictIndex.toMinutes(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.duck;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the free time between classes, recurring events and dated events
+ */
+public class FreeSlotFinder {
+    /**
+     * Finds the free windows of at least the given length in a time range, using a single
+     * sweep over the busy ranges. The weekly ranges come out of the interval tree already
+     * sorted, so repeating them week by week and merging them with the sorted dated ranges
+     * needs no sorting.
+     *
+     * @param from The start of the range
+     * @param to The end of the range
+     * @param minMinutes The shortest free window to report, in minutes
+     * @return The free windows as start and end pairs, in minutes since the epoch
+     */
+    static List<long[]> findFreeSlots(LocalDateTime from, LocalDateTime to, long minMinutes) {
+        long rangeStart = ConflictIndex.toMinutes(from.truncatedTo(ChronoUnit.MINUTES));
+        long rangeEnd = ConflictIndex.toMinutes(to);
+        long[] weekly = ConflictIndex.getWeeklyRanges();
+        long[] dated = ConflictIndex.getDatedRanges(rangeStart, rangeEnd);
+        LocalDateTime firstMonday = from.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .atStartOfDay();
+        long weekStart = ConflictIndex.toMinutes(firstMonday);
+
+        List<long[]> freeSlots = new ArrayList<>();
+        long freeFrom = rangeStart;
+        int weeklyIndex = 0;
+        int datedIndex = 0;
+        while (true) {
+            if (weekly.length > 0 && weeklyIndex == weekly.length) {
+                weeklyIndex = 0;
+                weekStart += ConflictIndex.MINUTES_PER_WEEK;
+            }
+            boolean hasWeekly = weekly.length > 0 && weekStart + weekly[weeklyIndex] < rangeEnd;
+            boolean hasDated = datedIndex < dated.length;
+            long busyStart;
+            long busyEnd;
+            if (hasWeekly && (!hasDated || weekStart + weekly[weeklyIndex] <= dated[datedIndex])) {
+                busyStart = weekStart + weekly[weeklyIndex];
+                busyEnd = weekStart + weekly[weeklyIndex + 1];
+                weeklyIndex += 2;
+            } else if (hasDated) {
+                busyStart = dated[datedIndex];
+                busyEnd = dated[datedIndex + 1];
+                datedIndex += 2;
+            } else {
+                break;
+            }
+            if (busyStart >= rangeEnd) {
+                break;
+            }
+            if (busyStart > freeFrom && busyStart - freeFrom >= minMinutes) {
+                freeSlots.add(new long[]{freeFrom, busyStart});
+            }
+            freeFrom = Math.max(freeFrom, busyEnd);
+        }
+        if (rangeEnd > freeFrom && rangeEnd - freeFrom >= minMinutes) {
+            freeSlots.add(new long[]{freeFrom, rangeEnd});
+        }
+        return freeSlots;
+    }
+}
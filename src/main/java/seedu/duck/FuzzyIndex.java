@@ -0,0 +1,161 @@
+package seedu.duck;
+
+import seedu.duck.task.Task;
+import seedu.duck.util.BkTree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the vocabulary of all task descriptions in a BK-tree so that misspelled
+ * keywords can still be matched against the tasks in the list
+ */
+public class FuzzyIndex {
+    private static final int MAX_RESULTS = 100;
+
+    private static BkTree vocabulary = new BkTree();
+    private static final Map<String, Set<Task>> postings = new HashMap<>();
+
+    /**
+     * Adds the words in the description of a task to the index
+     *
+     * @param task The task that has been added to the list
+     */
+    static void add(Task task) {
+        for (String word : tokenize(task.getDescription())) {
+            Set<Task> tasksWithWord = postings.get(word);
+            if (tasksWithWord == null) {
+                tasksWithWord = Collections.newSetFromMap(new IdentityHashMap<>());
+                postings.put(word, tasksWithWord);
+                vocabulary.add(word);
+            }
+            tasksWithWord.add(task);
+        }
+    }
+
+    /**
+     * Removes the words in the description of a task from the index.
+     * Words stay in the BK-tree, which does not support removal, but no longer point to the task.
+     *
+     * @param task The task that has been removed from the list
+     */
+    static void remove(Task task) {
+        for (String word : tokenize(task.getDescription())) {
+            Set<Task> tasksWithWord = postings.get(word);
+            if (tasksWithWord != null) {
+                tasksWithWord.remove(task);
+            }
+        }
+    }
+
+    static void clear() {
+        vocabulary = new BkTree();
+        postings.clear();
+    }
+
+    /**
+     * Returns the tasks with a word in their description
+     *
+     * @param word The word, in lowercase
+     * @return A read-only view of the tasks with the word
+     */
+    static Set<Task> getTasks(String word) {
+        return Collections.unmodifiableSet(postings.getOrDefault(word, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the largest number of edits allowed for a keyword, so that short
+     * keywords do not match almost every word in the list
+     *
+     * @param keyword The keyword typed by the user
+     * @return The maximum edit distance for the keyword
+     */
+    static int maxDistance(String keyword) {
+        if (keyword.length() <= 3) {
+            return 0;
+        } else if (keyword.length() <= 6) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Finds the tasks containing a word close to every keyword, ranked by the total
+     * number of edits needed and then by their position in the list
+     *
+     * @param tasks The array list of tasks
+     * @param keywords The keywords typed by the user
+     * @param matchingResults The list to fill with the matching tasks
+     * @param matchingResultsIndex The list to fill with the index of each matching task in the main list
+     */
+    static void search(ArrayList<Task> tasks, String keywords, ArrayList<Task> matchingResults,
+                       ArrayList<Integer> matchingResultsIndex) {
+        List<String> queryWords = tokenize(keywords);
+        if (queryWords.isEmpty()) {
+            return;
+        }
+        Map<Task, Integer> totalDistance = null;
+        for (String queryWord : queryWords) {
+            Map<Task, Integer> bestDistance = new IdentityHashMap<>();
+            for (BkTree.Match match : vocabulary.search(queryWord, maxDistance(queryWord))) {
+                for (Task task : postings.getOrDefault(match.getWord(), Collections.emptySet())) {
+                    bestDistance.merge(task, match.getDistance(), Math::min);
+                }
+            }
+            if (totalDistance == null) {
+                totalDistance = bestDistance;
+            } else {
+                // Every keyword has to be matched by some word in the description
+                totalDistance.keySet().retainAll(bestDistance.keySet());
+                for (Map.Entry<Task, Integer> entry : totalDistance.entrySet()) {
+                    entry.setValue(entry.getValue() + bestDistance.get(entry.getKey()));
+                }
+            }
+            if (totalDistance.isEmpty()) {
+                return;
+            }
+        }
+
+        // One pass over the list recovers the index of each match without comparing any strings
+        List<int[]> ranked = new ArrayList<>();
+        for (int i = 0; i < tasks.size() && ranked.size() < totalDistance.size(); i++) {
+            Integer distance = totalDistance.get(tasks.get(i));
+            if (distance != null) {
+                ranked.add(new int[]{distance, i});
+            }
+        }
+        ranked.sort((first, second) -> first[0] != second[0]
+                ? Integer.compare(first[0], second[0]) : Integer.compare(first[1], second[1]));
+        for (int i = 0; i < ranked.size() && i < MAX_RESULTS; i++) {
+            int index = ranked.get(i)[1];
+            matchingResults.add(tasks.get(index));
+            matchingResultsIndex.add(index + 1);
+        }
+    }
+
+    /**
+     * Splits a description into lowercase words, ignoring punctuation
+     *
+     * @param text The text to split
+     * @return The list of words in the text
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,282 @@
+package seedu.duck;
+
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurring;
+import seedu.duck.task.RecurringDeadline;
+import seedu.duck.task.RecurringEvent;
+import seedu.duck.task.SchoolClass;
+import seedu.duck.task.Task;
+import seedu.duck.util.DateTimeCodec;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes the output of every command as JSON Lines, one JSON object per line, for programs reading Duck's output.
+ * Tasks are written as task records with their fields, and everything else that is printed is
+ * written as message records, one per line of text, without the indentation and border lines.
+ * Records are encoded straight into a buffered writer over the standard output, which is flushed
+ * with the rest of the output after each command.
+ */
+public class JsonLines {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String HEX_DIGITS = "0123456789abcdef";
+
+    private static Writer out;
+    private static String command = "";
+
+    /**
+     * Starts writing records to the standard output. Lines printed to System.out from now on are
+     * written as message records.
+     */
+    static void enable(OutputStream stdout) {
+        out = new BufferedWriter(new OutputStreamWriter(stdout, StandardCharsets.UTF_8), BUFFER_SIZE);
+        System.setOut(new PrintStream(new MessageStream(), false, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Stops writing records. System.out is left as it is, so the caller restores it.
+     */
+    static synchronized void disable() {
+        out = null;
+        command = "";
+    }
+
+    static boolean isEnabled() {
+        return out != null;
+    }
+
+    /**
+     * Sets the command word included in the records written until the next command
+     */
+    static synchronized void setCommand(String word) {
+        command = word;
+    }
+
+    /**
+     * Writes a task record
+     *
+     * @param index The position of the task in the list, starting from 1, or 0 for a class
+     * @param task The task
+     * @param occurrence The time of the occurrence being listed, or null if the task is not listed by time
+     */
+    static synchronized void writeTask(int index, Task task, LocalDateTime occurrence) {
+        try {
+            startRecord("task");
+            if (index > 0) {
+                writeField("index", index);
+            }
+            writeField("type", getType(task));
+            writeField("done", task.getStatusIcon().equals("X"));
+            if (!(task instanceof SchoolClass)) {
+                writeField("priority", task.getPriorityIndex());
+            }
+            writeField("description", task.getDescription());
+            writeTimes(task);
+            if (task instanceof Recurring) {
+                writeField("recurrence", ((Recurring) task).getRecurrence().toString());
+            }
+            if (occurrence != null) {
+                writeField("at", occurrence.toString());
+            }
+            writeNotes(task.getAdditionalNotes());
+            endRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a record with the counts shown by the stats command
+     */
+    static synchronized void writeStats(LocalDate today) {
+        try {
+            startRecord("stats");
+            writeField("tasks", TaskStats.getTaskCount());
+            writeField("todos", TaskStats.getTodoCount());
+            writeField("deadlines", TaskStats.getDeadlineCount());
+            writeField("recurringDeadlines", TaskStats.getRecurringDeadlineCount());
+            writeField("events", TaskStats.getEventCount());
+            writeField("recurringEvents", TaskStats.getRecurringEventCount());
+            writeField("highPriority", TaskStats.getPriorityCount(3));
+            writeField("mediumPriority", TaskStats.getPriorityCount(2));
+            writeField("lowPriority", TaskStats.getPriorityCount(1));
+            writeField("done", TaskStats.getDoneCount());
+            writeField("overdue", TaskStats.getOverdueCount());
+            writeField("dueThisWeek", TaskStats.getDueThisWeekCount(today));
+            endRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a record for a line of text that a command printed
+     */
+    static synchronized void writeMessage(String text) throws IOException {
+        startRecord("message");
+        writeField("text", text);
+        endRecord();
+    }
+
+    static synchronized void flush() throws IOException {
+        out.flush();
+    }
+
+    private static String getType(Task task) {
+        if (task instanceof Deadline) {
+            return "deadline";
+        } else if (task instanceof Event) {
+            return "event";
+        } else if (task instanceof SchoolClass) {
+            return "class";
+        } else {
+            return "todo";
+        }
+    }
+
+    /**
+     * Writes the times of a task. Dated deadlines and events are written as ISO-8601 date times,
+     * and recurring tasks and classes as ISO-8601 times of day.
+     */
+    private static void writeTimes(Task task) throws IOException {
+        if (task instanceof RecurringDeadline) {
+            writeField("by", DateTimeCodec.parseTime(((Deadline) task).getDeadline()).toString());
+        } else if (task instanceof Deadline) {
+            writeField("by", DateTimeCodec.parseDateTime(((Deadline) task).getDeadline()).toString());
+        } else if (task instanceof RecurringEvent) {
+            writeField("from", DateTimeCodec.parseTime(((Event) task).getStart()).toString());
+            writeField("to", DateTimeCodec.parseTime(((Event) task).getEnd()).toString());
+        } else if (task instanceof Event) {
+            writeField("from", DateTimeCodec.parseDateTime(((Event) task).getStart()).toString());
+            writeField("to", DateTimeCodec.parseDateTime(((Event) task).getEnd()).toString());
+        } else if (task instanceof SchoolClass) {
+            SchoolClass schoolClass = (SchoolClass) task;
+            writeField("class", schoolClass.getClassName());
+            writeField("day", schoolClass.getDay().toString());
+            writeField("from", schoolClass.getStartTime().toString());
+            writeField("to", schoolClass.getEndTime().toString());
+        }
+    }
+
+    private static void writeNotes(List<String> notes) throws IOException {
+        out.write(",\"notes\":[");
+        for (int i = 0; i < notes.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeString(notes.get(i));
+        }
+        out.write(']');
+    }
+
+    private static void startRecord(String record) throws IOException {
+        out.write("{\"record\":");
+        writeString(record);
+        out.write(",\"command\":");
+        writeString(command);
+    }
+
+    private static void endRecord() throws IOException {
+        out.write("}\n");
+    }
+
+    private static void writeField(String name, String value) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        writeString(value);
+    }
+
+    private static void writeField(String name, long value) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        out.write(Long.toString(value));
+    }
+
+    private static void writeField(String name, boolean value) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        out.write(value ? "true" : "false");
+    }
+
+    /**
+     * Writes a JSON string, escaping quotes, backslashes and control characters as it goes
+     */
+    private static void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= ' ') {
+                continue;
+            }
+            out.write(value, start, i - start);
+            start = i + 1;
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c == '\n') {
+                out.write("\\n");
+            } else if (c == '\t') {
+                out.write("\\t");
+            } else {
+                out.write("\\u00");
+                out.write(HEX_DIGITS.charAt(c >> 4));
+                out.write(HEX_DIGITS.charAt(c & 0xf));
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    /**
+     * Turns each line printed to System.out into a message record. Indentation is removed, and blank
+     * lines and border lines are dropped.
+     */
+    private static class MessageStream extends OutputStream {
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) throws IOException {
+            if (b == '\n') {
+                writeLine();
+            } else {
+                line.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                write(bytes[i]);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            JsonLines.flush();
+        }
+
+        private void writeLine() throws IOException {
+            String text = line.toString(StandardCharsets.UTF_8).strip();
+            line.reset();
+            if (!text.isEmpty() && !text.chars().allMatch(c -> c == '_')) {
+                writeMessage(text);
+            }
+        }
+    }
+}
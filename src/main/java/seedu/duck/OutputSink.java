@@ -0,0 +1,108 @@
+package seedu.duck;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decides where everything Duck prints goes. The rest of the program prints to System.out, which is
+ * replaced by one of these sinks at startup. The buffered sink keeps a whole response in memory and
+ * writes it out when flush is called after each command, or before waiting for the user to type.
+ * The quiet sink drops everything, for scripts and benchmarks where only the effect of the commands matters.
+ * The JSON Lines sink writes records for other programs to read, see JsonLines. The capturing sink
+ * lets each thread of the server collect what it prints into its own buffer.
+ */
+public class OutputSink {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final ThreadLocal<OutputStream> capture = new ThreadLocal<>();
+
+    /**
+     * Sends everything printed to the standard output through a buffer, which is written out only
+     * when flush is called or the buffer fills up
+     */
+    static void useBuffered() {
+        useBuffered(new FileOutputStream(FileDescriptor.out));
+    }
+
+    static void useBuffered(OutputStream out) {
+        System.setOut(new PrintStream(new BufferedOutputStream(out, BUFFER_SIZE), false));
+    }
+
+    /**
+     * Writes the output of every command as JSON Lines records instead of text
+     */
+    static void useJsonLines() {
+        JsonLines.enable(new FileOutputStream(FileDescriptor.out));
+    }
+
+    /**
+     * Drops everything printed from now on
+     */
+    static void useQuiet() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream(), false));
+    }
+
+    /**
+     * Sends what a thread prints to the buffer it is capturing into, if it has started capturing,
+     * and to the standard output otherwise. Everything is printed as UTF-8.
+     */
+    static void useCapturing() {
+        OutputStream stdout = new FileOutputStream(FileDescriptor.out);
+        System.setOut(new PrintStream(new CapturingStream(stdout), true, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Collects everything this thread prints into a buffer until stopCapture is called.
+     * Only has an effect once useCapturing has been called.
+     */
+    static void startCapture(OutputStream buffer) {
+        capture.set(buffer);
+    }
+
+    static void stopCapture() {
+        capture.remove();
+    }
+
+    /**
+     * Writes out everything printed since the last flush, such as the response to a command
+     */
+    static void flush() {
+        System.out.flush();
+    }
+
+    /**
+     * Writes to the buffer of the thread that is writing, or to the standard output
+     */
+    private static class CapturingStream extends OutputStream {
+        private final OutputStream stdout;
+
+        CapturingStream(OutputStream stdout) {
+            this.stdout = stdout;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            getTarget().write(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            getTarget().write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            getTarget().flush();
+        }
+
+        private OutputStream getTarget() {
+            OutputStream buffer = capture.get();
+            return buffer == null ? stdout : buffer;
+        }
+    }
+}
@@ -5,13 +5,96 @@ import seedu.duck.task.Task;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.PriorityQueue;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.Set;
 
 /**
  * Deals with making sense of the user command
  */
 public class Parser {
+    static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final Map<String, Command> COMMANDS = new HashMap<>();
+    // Commands that only read the tasks, and so run under the read lock instead of on the writer thread
+    private static final Set<String> READ_COMMANDS = new HashSet<>();
+    private static final Map<String, Question> QUESTIONS = new HashMap<>();
+    private static final Map<String, AnsweredCommand> ANSWERED_COMMANDS = new HashMap<>();
+
+    /**
+     * Runs one kind of command, given the line it was entered on
+     */
+    interface Command {
+        void execute(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) throws IOException;
+    }
+
+    /**
+     * Runs the part of a command that comes before it needs an answer from the user, ending with the question
+     */
+    interface Question {
+        /**
+         * @return true if the question was asked, or false if the command has already finished
+         */
+        boolean ask(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) throws IOException;
+    }
+
+    /**
+     * Runs the rest of a command with the user's answer to its question
+     */
+    interface AnsweredCommand {
+        void execute(CommandLine command, String answer, ArrayList<Task> tasks, ClassSchedule classes)
+                throws IOException;
+    }
+
+    static {
+        registerRead("list", Parser::list);
+        register("event", Parser::event);
+        register("deadline", Parser::deadline);
+        registerRead("list_today", (command, tasks, classes) -> Ui.listToday(classes));
+        registerRead("list_day", Parser::listDay);
+        registerRead("conflicts", Parser::conflicts);
+        registerRead("free", Parser::free);
+        registerRead("priority_list", (command, tasks, classes) -> Ui.printPriorityList(tasks));
+        registerRead("low_priority", (command, tasks, classes) -> Ui.printLowPriority(tasks));
+        registerRead("medium_priority", (command, tasks, classes) -> Ui.printMediumPriority(tasks));
+        registerRead("high_priority", (command, tasks, classes) -> Ui.printHighPriority(tasks));
+        // Brings the done status of the classes up to date, so it changes them
+        register("list_classes", (command, tasks, classes) -> Ui.listClasses(classes));
+        registerRead("help", (command, tasks, classes) -> Ui.help());
+        registerRead("upcoming_class", (command, tasks, classes) -> Ui.displayNextUpcomingClass(classes));
+        registerRead("upcoming_event", (command, tasks, classes) -> Ui.displayNextUpcomingEvent());
+        registerRead("upcoming_deadline", (command, tasks, classes) -> Ui.displayNextUpcomingDeadline());
+        registerRead("upcoming_task", (command, tasks, classes) -> Ui.displayNextUpcomingTask());
+        register("unmark", Parser::unmark);
+        register("mark", Parser::mark);
+        register("delete", Parser::delete);
+        register("remove", Parser::remove);
+        registerQuestion("edit", Parser::askEdit, Parser::edit);
+        registerRead("find", Parser::find);
+        registerRead("query", Parser::query);
+        // Counting the overdue deadlines moves the expiry index on to the current time
+        register("stats", (command, tasks, classes) -> Ui.printStats());
+        registerQuestion("purge", (command, tasks, classes) -> TaskList.askPurge(tasks),
+                (command, answer, tasks, classes) -> TaskList.purgeExpired(tasks, classes, Ui.isConfirmed(answer)));
+        register("remind", Parser::remind);
+        register("priority", Parser::priority);
+        registerQuestion("add_notes", Parser::askNote, Parser::addNotes);
+        register("delete_notes", Parser::deleteNotes);
+        registerRead("view_notes", Parser::viewNotes);
+        registerQuestion("edit_notes", Parser::askEditNote, Parser::editNotes);
+        registerRead("motivation", (command, tasks, classes) -> {
+            Ui.printMotivationalQuote();
+            Ui.borderLine();
+        });
+        registerQuestion("clear", (command, tasks, classes) -> {
+            Ui.doubleCheckMessage();
+            return true;
+        }, Parser::clear);
+    }
 
     /**
      * Returns boolean value of true if input String is an integer,
@@ -33,197 +116,431 @@ public class Parser {
     }
 
     /**
-     * Processes the user input and executes the appropriate command
+     * Selects the tasks that a bulk mark, unmark, delete or priority command applies to.
+     * The selector is either done or undone, or a comma-separated list of task numbers and
+     * ranges of task numbers such as 1,5,9 or 3-40. An error message is printed if the
+     * selector cannot be read or names a task that does not exist.
+     *
+     * @param tasks The array list of tasks
+     * @param selector The selector typed by the user
+     * @return The positions in the list of the selected tasks, or null if the selector is invalid
+     */
+    static BitSet parseSelection(ArrayList<Task> tasks, String selector) {
+        BitSet selection = new BitSet(tasks.size());
+        if (selector.equals("done") || selector.equals("undone")) {
+            boolean isDone = selector.equals("done");
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getStatusIcon().equals("X") == isDone) {
+                    selection.set(i);
+                }
+            }
+            return selection;
+        }
+        for (String item : selector.split(",")) {
+            String[] bounds = item.split("-", -1);
+            if (bounds.length > 2 || !isNumeric(bounds[0]) || !isNumeric(bounds[bounds.length - 1])) {
+                Ui.unknownCommandMessage();
+                return null;
+            }
+            int first = Integer.parseInt(bounds[0]);
+            int last = Integer.parseInt(bounds[bounds.length - 1]);
+            if (first > last) {
+                Ui.unknownCommandMessage();
+                return null;
+            } else if (first <= 0 || last > tasks.size()) {
+                Ui.exceedTaskNumberMessage(first <= 0 ? first : last);
+                return null;
+            }
+            selection.set(first - 1, last);
+        }
+        return selection;
+    }
+
+    /**
+     * Returns true if the words are a list, deadline or event command of the form
+     * {@code <command> <number_of_days> --top <count>}
+     *
+     * @param words The array of words generated from the user input
+     */
+    static boolean isTopCommand(String[] words) {
+        return words.length == 4 && isNumeric(words[1]) && words[2].equals("--top")
+                && isNumeric(words[3]) && Integer.parseInt(words[3]) > 0;
+    }
+
+    /**
+     * Prints the page of the task list asked for by a list command with --page and --size options.
+     * The page defaults to the first one and the size to DEFAULT_PAGE_SIZE tasks.
      *
      * @param tasks The array list of tasks
+     * @param words The array of words generated from the user input
+     */
+    static void listPage(List<Task> tasks, String[] words) {
+        int page = 1;
+        int pageSize = DEFAULT_PAGE_SIZE;
+        for (int i = 1; i < words.length; i += 2) {
+            if (i + 1 >= words.length || !isNumeric(words[i + 1]) || Integer.parseInt(words[i + 1]) < 1) {
+                Ui.unknownCommandMessage();
+                return;
+            }
+            int value = Integer.parseInt(words[i + 1]);
+            if (words[i].equals("--page")) {
+                page = value;
+            } else if (words[i].equals("--size")) {
+                pageSize = value;
+            } else {
+                Ui.unknownCommandMessage();
+                return;
+            }
+        }
+        Ui.listPage(tasks, page, pageSize);
+    }
+
+    /**
+     * Processes the user input and executes the appropriate command,
+     * until bye is entered or the input runs out. Commands that only read the tasks run on this thread
+     * under the read lock, and the others are run on the writer thread of the queue. This waits for each
+     * command to finish before reading the next line. A command that asks the user a question runs in
+     * two parts, and the answer is read in between without holding any lock.
+     *
+     * @param queue The queue that runs commands on the tasks and classes
      * @param line The line of user input
      * @param in The input from scanner
+     * @return The number of commands processed, not counting bye
      */
-    static void processCommand(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes, String line, Scanner in) throws IOException {
-        while (!line.trim().equals("bye")) {
-            line = line.trim().replaceAll("\\s{2,}", " ");
-            String[] words = line.split(" ");
-            if (line.isBlank()) {
+    static int processCommand(CommandQueue queue, String line, Scanner in) throws IOException {
+        int commandCount = 0;
+        CommandLine command = new CommandLine();
+        command.tokenize(line);
+        while (!command.getLine().equals("bye")) {
+            if (command.isBlank()) {
                 Ui.emptyCommandMessage();
-                line = in.nextLine();
             } else {
-                switch (words[0]) {
-                case "list":
-                    if (words.length == 1) {
-                        Ui.list(tasks);
-                    } else if (words.length == 2 && isNumeric(words[1])) {
-                        Ui.printUpcomingTasks(tasks, words[1]);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "event":
-                    if(words.length==2 && isNumeric(words[1])){
-                        Ui.printUpcomingEvents(tasks,words[1]);
-                    } else{
-                        TaskList.addTask(line, tasks, classes);
-                        Storage.trySave(tasks, classes);
-                    }
-                    break;
-                case "deadline":
-                    if(words.length==2 && isNumeric(words[1])){
-                        Ui.printUpcomingDeadline(tasks,words[1]);
-                    } else{
-                        TaskList.addTask(line, tasks, classes);
-                        Storage.trySave(tasks, classes);
-                    }
-                    break;
-                case "list_today":
-                    Ui.listToday(tasks, classes);
-                    break;
-                case "priority_list":
-                    Ui.printPriorityList(tasks);
-                    break;
-                case "low_priority":
-                    Ui.printLowPriority(tasks);
-                    break;
-                case "medium_priority":
-                    Ui.printMediumPriority(tasks);
-                    break;
-                case "high_priority":
-                    Ui.printHighPriority(tasks);
-                    break;
-                case "list_classes":
-                    Ui.listClasses(classes, tasks);
-                    break;
-                case "help":
-                    Ui.help();
-                    break;
-                case "upcoming_class":
-                    Ui.displayNextUpcomingClass(classes);
-                    break;
-                case "upcoming_event":
-                    Ui.displayNextUpcomingEvent(tasks);
-                    break;
-                case "upcoming_deadline":
-                    Ui.displayNextUpcomingDeadline(tasks);
-                    break;
-                case "upcoming_task":
-                    Ui.displayNextUpcomingTask(tasks);
-                    break;
-                case "unmark":
-                    if (words.length == 2 && isNumeric(words[1])) {
-                        TaskList.unmarkTask(tasks, words);
-                        Storage.trySave(tasks, classes);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "mark":
-                    if (words.length == 2 && isNumeric(words[1])) {
-                        TaskList.markTask(tasks, words);
-                        Storage.trySave(tasks, classes);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "delete":
-                    if (words.length == 2 && isNumeric(words[1])) {
-                        TaskList.deleteTask(tasks, words);
-                        Storage.trySave(tasks, classes);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "remove":
-                    if (words.length > 1 && words[1].equals("/class")) {
-                        TaskList.tryDeleteClass(classes, line);
-                        Storage.trySave(tasks, classes);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "edit":
-                    if (words.length == 2 && isNumeric(words[1])) {
-                        TaskList.tryEditTask(tasks, words);
-                        Storage.trySave(tasks, classes);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "find":
-                    if (words.length > 1) {
-                        Ui.find(tasks, words);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "purge":
-                    TaskList.purge(tasks, classes);
-                    break;
-                case "priority":
-                    if (words.length == 3) {
-                        TaskList.setPriority(tasks, words);
-                        Storage.trySave(tasks, classes);
-                    } else {
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "add_notes":
-                    if(words.length == 2 && isNumeric(words[1])){
-                        TaskList.addNote(tasks, words);
-                        Storage.trySave(tasks, classes);
-                    }else{
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "delete_notes":
-                    if(words.length == 3){
-                        TaskList.deleteNotes(tasks,words);
-                        Storage.trySave(tasks, classes);
-                    } else{
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "view_notes":
-                    if(words.length == 2 && isNumeric(words[1])) {
-                        Ui.printNotes(tasks, words);
-                    }else{
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "edit_notes":
-                    if(words.length == 3){
-                        TaskList.editNote(tasks, words);
-                        Storage.trySave(tasks, classes);
-                    }else{
-                        Ui.unknownCommandMessage();
-                    }
-                    break;
-                case "motivation":
-                    Ui.printMotivationalQuote();
-                    Ui.borderLine();
-                    break;
-                case "clear":
-                    if (Ui.doubleCheck()) {
-                        // Find tasks that contain a keyword
-                        tasks.clear();
-                        Task.clearCount();
-                        classes.clear();
-                        Ui.borderLine();
-                        System.out.println("\t Got it, all tasks have been cleared.");
-                        Ui.borderLine();
-                        Storage.clearTask();
-                        break;
-                    } else {
-                        Ui.borderLine();
-                        System.out.println("\t Quack! Process cancelled.");
-                        Ui.borderLine();
-                        break;
-                    }
-                default:
-                    TaskList.addTask(line, tasks, classes);
-                    Storage.trySave(tasks, classes);
-                    break;
+                commandCount++;
+                if (JsonLines.isEnabled()) {
+                    JsonLines.setCommand(command.getCommand());
+                }
+                String word = command.getCommand();
+                Command handler = getCommand(word);
+                if (READ_COMMANDS.contains(word)) {
+                    queue.read((tasks, classes) -> handler.execute(command, tasks, classes));
+                } else if (QUESTIONS.containsKey(word)) {
+                    askAndExecute(queue, command, in);
+                } else {
+                    queue.execute((tasks, classes) -> handler.execute(command, tasks, classes));
                 }
-                line = in.nextLine();
             }
+            OutputSink.flush();
+            command.tokenize(in.hasNextLine() ? in.nextLine() : "bye");
         }
+        return commandCount;
+    }
+
+    /**
+     * Returns the handler for a command word. Lines that do not start with a command word add a task.
+     *
+     * @param word The first word of the line
+     * @return The handler to run the line with
+     */
+    static Command getCommand(String word) {
+        return COMMANDS.getOrDefault(word, Parser::addTask);
+    }
+
+    private static void register(String word, Command command) {
+        COMMANDS.put(word, command);
+    }
+
+    private static void registerRead(String word, Command command) {
+        register(word, command);
+        READ_COMMANDS.add(word);
+    }
+
+    /**
+     * Registers a command that asks the user a question part way through. Run through getCommand,
+     * the command reads the answer while it runs.
+     */
+    private static void registerQuestion(String word, Question question, AnsweredCommand command) {
+        register(word, (line, tasks, classes) -> {
+            if (question.ask(line, tasks, classes)) {
+                command.execute(line, Ui.readLine(), tasks, classes);
+            }
+        });
+        QUESTIONS.put(word, question);
+        ANSWERED_COMMANDS.put(word, command);
+    }
+
+    /**
+     * Runs a command that asks the user a question. Both parts of the command run on the writer thread,
+     * and the answer is read on this thread in between, so changes are not held up while the user types.
+     */
+    private static void askAndExecute(CommandQueue queue, CommandLine command, Scanner in) throws IOException {
+        Question question = QUESTIONS.get(command.getCommand());
+        AnsweredCommand answered = ANSWERED_COMMANDS.get(command.getCommand());
+        boolean[] isAsked = new boolean[1];
+        queue.execute((tasks, classes) -> isAsked[0] = question.ask(command, tasks, classes));
+        if (isAsked[0]) {
+            String answer = Ui.readLine(in);
+            queue.execute((tasks, classes) -> answered.execute(command, answer, tasks, classes));
+        }
+    }
+
+    private static void list(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) throws IOException {
+        String[] words = command.getWords();
+        if (words.length == 1) {
+            Ui.list(tasks);
+        } else if (words[1].startsWith("--")) {
+            listPage(tasks, words);
+        } else if (words.length == 2 && isNumeric(words[1])) {
+            Ui.printUpcomingTasks(tasks, words[1], Ui.ALL_OCCURRENCES);
+        } else if (isTopCommand(words)) {
+            Ui.printUpcomingTasks(tasks, words[1], Integer.parseInt(words[3]));
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void event(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 2 && isNumeric(words[1])) {
+            Ui.printUpcomingEvents(tasks, words[1], Ui.ALL_OCCURRENCES);
+        } else if (isTopCommand(words)) {
+            Ui.printUpcomingEvents(tasks, words[1], Integer.parseInt(words[3]));
+        } else {
+            addTask(command, tasks, classes);
+        }
+    }
+
+    private static void deadline(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 2 && isNumeric(words[1])) {
+            Ui.printUpcomingDeadline(tasks, words[1], Ui.ALL_OCCURRENCES);
+        } else if (isTopCommand(words)) {
+            Ui.printUpcomingDeadline(tasks, words[1], Integer.parseInt(words[3]));
+        } else {
+            addTask(command, tasks, classes);
+        }
+    }
+
+    private static void listDay(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        if (command.getWordCount() == 2) {
+            Ui.tryListDay(classes, command.getWord(1));
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void conflicts(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        if (command.getWordCount() == 3) {
+            Ui.tryListConflicts(command.getWord(1), command.getWord(2));
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void free(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 3 && isNumeric(words[1]) && isNumeric(words[2])) {
+            Ui.printFreeSlots(words[1], words[2]);
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void unmark(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 2 && isNumeric(words[1])) {
+            TaskList.unmarkTask(tasks, words);
+            Storage.trySave(tasks, classes);
+        } else if (words.length == 2) {
+            BitSet selection = parseSelection(tasks, words[1]);
+            if (selection != null) {
+                TaskList.markTasks(tasks, selection, false);
+                Storage.trySave(tasks, classes);
+            }
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void mark(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 2 && isNumeric(words[1])) {
+            TaskList.markTask(tasks, words);
+            Storage.trySave(tasks, classes);
+        } else if (words.length == 2) {
+            BitSet selection = parseSelection(tasks, words[1]);
+            if (selection != null) {
+                TaskList.markTasks(tasks, selection, true);
+                Storage.trySave(tasks, classes);
+            }
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void delete(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 2 && isNumeric(words[1])) {
+            TaskList.deleteTask(tasks, words);
+            Storage.trySave(tasks, classes);
+        } else if (words.length == 2) {
+            BitSet selection = parseSelection(tasks, words[1]);
+            if (selection != null) {
+                TaskList.deleteTasks(tasks, selection);
+                Storage.trySave(tasks, classes);
+            }
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void remove(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        if (command.isWord(1, "/class")) {
+            TaskList.tryDeleteClass(classes, command);
+            Storage.trySave(tasks, classes);
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    /**
+     * Edits the fields given after the task number, or asks the user what to change if there are none
+     */
+    private static boolean askEdit(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length > 2 && isNumeric(words[1])) {
+            TaskList.tryEditTask(tasks, words, null);
+            Storage.trySave(tasks, classes);
+        } else if (words.length == 2 && isNumeric(words[1])) {
+            return TaskList.askEdit(tasks, words);
+        } else {
+            Ui.unknownCommandMessage();
+        }
+        return false;
+    }
+
+    private static void edit(CommandLine command, String answer, ArrayList<Task> tasks, ClassSchedule classes) {
+        TaskList.tryEditTask(tasks, command.getWords(), answer);
+        Storage.trySave(tasks, classes);
+    }
+
+    private static void find(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length > 1 && words[1].startsWith("~")) {
+            Ui.fuzzyFind(tasks, command.getRest(1).substring(1));
+        } else if (words.length > 1) {
+            Ui.find(tasks, words);
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void query(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        if (command.getWordCount() > 2 && command.isWord(1, "explain")) {
+            Ui.tryQuery(tasks, command.getRest(2), true);
+        } else if (command.getWordCount() > 1) {
+            Ui.tryQuery(tasks, command.getRest(1), false);
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void remind(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 1) {
+            Ui.reminderStatusMessage();
+        } else if (words.length == 2 && words[1].equals("off")) {
+            ReminderScheduler.setLeadMinutes(-1);
+            Ui.reminderStatusMessage();
+        } else if (words.length == 2 && isNumeric(words[1])) {
+            ReminderScheduler.setLeadMinutes(Long.parseLong(words[1]));
+            Ui.reminderStatusMessage();
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void priority(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 3 && (isNumeric(words[1]) || !words[2].matches("[123]"))) {
+            TaskList.setPriority(tasks, words);
+            Storage.trySave(tasks, classes);
+        } else if (words.length == 3) {
+            BitSet selection = parseSelection(tasks, words[1]);
+            if (selection != null) {
+                TaskList.setPriorities(tasks, selection, words[2]);
+                Storage.trySave(tasks, classes);
+            }
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static boolean askNote(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 2 && isNumeric(words[1])) {
+            return TaskList.askNote(tasks, words);
+        }
+        Ui.unknownCommandMessage();
+        return false;
+    }
+
+    private static void addNotes(CommandLine command, String answer, ArrayList<Task> tasks, ClassSchedule classes) {
+        TaskList.addNote(tasks, command.getWords(), answer);
+        Storage.trySave(tasks, classes);
+    }
+
+    private static void deleteNotes(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        if (command.getWordCount() == 3) {
+            TaskList.deleteNotes(tasks, command.getWords());
+            Storage.trySave(tasks, classes);
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static void viewNotes(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String[] words = command.getWords();
+        if (words.length == 2 && isNumeric(words[1])) {
+            Ui.printNotes(tasks, words);
+        } else {
+            Ui.unknownCommandMessage();
+        }
+    }
+
+    private static boolean askEditNote(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        if (command.getWordCount() == 3) {
+            return TaskList.askEditNote(tasks, command.getWords());
+        }
+        Ui.unknownCommandMessage();
+        return false;
+    }
+
+    private static void editNotes(CommandLine command, String answer, ArrayList<Task> tasks, ClassSchedule classes) {
+        TaskList.editNote(tasks, command.getWords(), answer);
+        Storage.trySave(tasks, classes);
+    }
+
+    private static void clear(CommandLine command, String answer, ArrayList<Task> tasks, ClassSchedule classes)
+            throws IOException {
+        if (Ui.isConfirmed(answer)) {
+            tasks.clear();
+            Task.clearCount();
+            classes.clear();
+            TaskList.clearIndexes();
+            Ui.borderLine();
+            System.out.println("\t Got it, all tasks have been cleared.");
+            Ui.borderLine();
+            Storage.clearTask();
+        } else {
+            Ui.borderLine();
+            System.out.println("\t Quack! Process cancelled.");
+            Ui.borderLine();
+        }
+    }
+
+    static void addTask(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        TaskList.addTask(command, tasks, classes);
+        Storage.trySave(tasks, classes);
     }
 
     /**
@@ -0,0 +1,72 @@
+package seedu.duck;
+
+import seedu.duck.task.Task;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Keeps the tasks in the list bucketed by their priority, so that the priority
+ * views only visit the tasks they print
+ */
+public class PriorityIndex {
+    private static final Comparator<Task> LIST_ORDER = Comparator.comparingLong(Task::getSequenceNumber);
+    private static final TreeMap<Integer, TreeSet<Task>> buckets = new TreeMap<>();
+
+    /**
+     * Adds a task to the bucket of its current priority
+     *
+     * @param task The task that has been added to the list
+     */
+    static void add(Task task) {
+        buckets.computeIfAbsent(task.getPriorityIndex(), priority -> new TreeSet<>(LIST_ORDER)).add(task);
+    }
+
+    /**
+     * Removes a task from the bucket of its current priority
+     *
+     * @param task The task that has been removed from the list
+     */
+    static void remove(Task task) {
+        removeFromBucket(task, task.getPriorityIndex());
+    }
+
+    /**
+     * Moves a task whose priority has just been changed into its new bucket
+     *
+     * @param task The task whose priority has been changed
+     * @param oldPriority The priority of the task before it was changed
+     */
+    static void move(Task task, int oldPriority) {
+        removeFromBucket(task, oldPriority);
+        add(task);
+    }
+
+    static void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Returns the tasks with the given priority, in the order they appear in the list
+     *
+     * @param priority The priority from 1 to 3
+     * @return A read-only view of the tasks with that priority
+     */
+    static Set<Task> getTasks(int priority) {
+        TreeSet<Task> bucket = buckets.get(priority);
+        if (bucket == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(bucket);
+    }
+
+    private static void removeFromBucket(Task task, int priority) {
+        TreeSet<Task> bucket = buckets.get(priority);
+        if (bucket != null) {
+            bucket.remove(task);
+        }
+    }
+}
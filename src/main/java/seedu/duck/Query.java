@@ -0,0 +1,382 @@
+package seedu.duck;
+
+import seedu.duck.exception.IllegalQueryException;
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A filter over the task list, compiled from a query such as
+ * {@code type:deadline priority>=2 due<7d done:no text:"lab"}.
+ * Terms are joined by AND, groups of terms are joined by OR, and a term starting with '-' is negated.
+ * The query is compiled into a tree of predicates, an OR of ANDs, whose conditions the
+ * {@link QueryPlanner} can look up in the task indexes.
+ */
+public class Query {
+    private static final Pattern TOKEN = Pattern.compile("\\S*\"[^\"]*\"\\S*|\\S+");
+    private static final Pattern TERM = Pattern.compile("(-?)([a-z]+)(<=|>=|:|<|>|=)(.+)");
+    private static final Pattern RELATIVE_TIME = Pattern.compile("(-?\\d+)([dhm])");
+
+    private final List<List<Condition>> groups;
+    private final LocalDateTime now;
+
+    /**
+     * The fields a condition can test
+     */
+    enum Field {
+        TYPE, PRIORITY, DUE, DONE, TEXT
+    }
+
+    /**
+     * A single term of the query, testing one field of a task
+     */
+    static class Condition implements Predicate<Task> {
+        private final Field field;
+        private final String operator;
+        private final boolean isNegated;
+        private final String text;
+        private final Predicate<Task> predicate;
+        private int priorityFrom;
+        private int priorityTo;
+        private LocalDateTime dueFrom;
+        private LocalDateTime dueTo;
+        private List<String> words;
+
+        private Condition(Field field, String operator, boolean isNegated, String text, Predicate<Task> predicate) {
+            this.field = field;
+            this.operator = operator;
+            this.isNegated = isNegated;
+            this.text = text;
+            this.predicate = isNegated ? predicate.negate() : predicate;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return predicate.test(task);
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        boolean isNegated() {
+            return isNegated;
+        }
+
+        /**
+         * Returns the lowest and highest priority accepted by a priority condition
+         */
+        int[] getPriorityRange() {
+            return new int[]{priorityFrom, priorityTo};
+        }
+
+        /**
+         * Returns the earliest time, inclusive, and latest time, exclusive, accepted by a due
+         * condition. Either end is null if the range is open on that side.
+         */
+        LocalDateTime[] getDueRange() {
+            return new LocalDateTime[]{dueFrom, dueTo};
+        }
+
+        /**
+         * Returns the lowercase words that a text condition requires in the description
+         */
+        List<String> getWords() {
+            return words;
+        }
+
+        @Override
+        public String toString() {
+            return (isNegated ? "-" : "") + field.toString().toLowerCase() + operator + text;
+        }
+    }
+
+    private Query(List<List<Condition>> groups, LocalDateTime now) {
+        this.groups = groups;
+        this.now = now;
+    }
+
+    /**
+     * Compiles a query
+     *
+     * @param query The query typed by the user
+     * @return The compiled query
+     * @throws IllegalQueryException if a term cannot be read
+     */
+    static Query parse(String query) throws IllegalQueryException {
+        LocalDateTime now = LocalDateTime.now();
+        List<List<Condition>> groups = new ArrayList<>();
+        List<Condition> group = new ArrayList<>();
+        Matcher tokens = TOKEN.matcher(query);
+        while (tokens.find()) {
+            String token = tokens.group();
+            if (token.equalsIgnoreCase("or")) {
+                if (group.isEmpty()) {
+                    throw new IllegalQueryException();
+                }
+                groups.add(group);
+                group = new ArrayList<>();
+            } else {
+                group.add(parseTerm(token, now));
+            }
+        }
+        if (group.isEmpty()) {
+            throw new IllegalQueryException();
+        }
+        groups.add(group);
+        return new Query(groups, now);
+    }
+
+    /**
+     * Returns the groups of conditions. A task matches if it matches every condition of any group.
+     */
+    List<List<Condition>> getGroups() {
+        return groups;
+    }
+
+    LocalDateTime getNow() {
+        return now;
+    }
+
+    /**
+     * Returns true if a task matches the query
+     *
+     * @param task The task to test
+     */
+    boolean test(Task task) {
+        for (List<Condition> group : groups) {
+            if (matchesAll(group, task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean matchesAll(List<Condition> group, Task task) {
+        for (Condition condition : group) {
+            if (!condition.test(task)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return groups.stream()
+                .map(group -> group.stream().map(Condition::toString).collect(Collectors.joining(" AND ")))
+                .collect(Collectors.joining(" OR "));
+    }
+
+    private static Condition parseTerm(String token, LocalDateTime now) throws IllegalQueryException {
+        Matcher term = TERM.matcher(token);
+        if (!term.matches()) {
+            // A bare word is a shorthand for text:word
+            boolean isNegated = token.startsWith("-") && token.length() > 1;
+            return parseText(isNegated ? token.substring(1) : token, ":", isNegated);
+        }
+        boolean isNegated = !term.group(1).isEmpty();
+        String operator = term.group(3);
+        String value = term.group(4);
+        switch (term.group(2)) {
+        case "type":
+            return parseType(value, operator, isNegated);
+        case "priority":
+            return parsePriority(value, operator, isNegated);
+        case "due":
+            return parseDue(value, operator, isNegated, now);
+        case "done":
+            return parseDone(value, operator, isNegated);
+        case "text":
+            return parseText(value, operator, isNegated);
+        default:
+            throw new IllegalQueryException();
+        }
+    }
+
+    private static Condition parseType(String value, String operator, boolean isNegated)
+            throws IllegalQueryException {
+        requireEquality(operator);
+        Predicate<Task> predicate;
+        switch (value.toLowerCase()) {
+        case "todo":
+            predicate = task -> task instanceof Todo;
+            break;
+        case "deadline":
+            predicate = task -> task instanceof Deadline;
+            break;
+        case "event":
+            predicate = task -> task instanceof Event;
+            break;
+        default:
+            throw new IllegalQueryException();
+        }
+        return new Condition(Field.TYPE, operator, isNegated, value.toLowerCase(), predicate);
+    }
+
+    private static Condition parsePriority(String value, String operator, boolean isNegated)
+            throws IllegalQueryException {
+        int priority;
+        switch (value.toLowerCase()) {
+        case "low":
+            priority = 1;
+            break;
+        case "medium":
+            priority = 2;
+            break;
+        case "high":
+            priority = 3;
+            break;
+        default:
+            try {
+                priority = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalQueryException();
+            }
+        }
+        int from;
+        int to;
+        switch (operator) {
+        case "<":
+            from = 1;
+            to = priority - 1;
+            break;
+        case "<=":
+            from = 1;
+            to = priority;
+            break;
+        case ">":
+            from = priority + 1;
+            to = 3;
+            break;
+        case ">=":
+            from = priority;
+            to = 3;
+            break;
+        default:
+            from = priority;
+            to = priority;
+        }
+        int lowest = from;
+        int highest = to;
+        Condition condition = new Condition(Field.PRIORITY, operator, isNegated, value,
+            task -> task.getPriorityIndex() >= lowest && task.getPriorityIndex() <= highest);
+        condition.priorityFrom = from;
+        condition.priorityTo = to;
+        return condition;
+    }
+
+    /**
+     * Reads a due condition. The value is either a time relative to now, such as 7d, 12h or 30m,
+     * or a date, which stands for the start of that day.
+     */
+    private static Condition parseDue(String value, String operator, boolean isNegated, LocalDateTime now)
+            throws IllegalQueryException {
+        LocalDateTime bound;
+        Matcher relative = RELATIVE_TIME.matcher(value);
+        if (relative.matches()) {
+            long amount = Long.parseLong(relative.group(1));
+            switch (relative.group(2)) {
+            case "d":
+                bound = now.plusDays(amount);
+                break;
+            case "h":
+                bound = now.plusHours(amount);
+                break;
+            default:
+                bound = now.plusMinutes(amount);
+            }
+        } else {
+            try {
+                bound = LocalDate.parse(value).atStartOfDay();
+            } catch (DateTimeException e) {
+                throw new IllegalQueryException();
+            }
+        }
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        switch (operator) {
+        case "<":
+            to = bound;
+            break;
+        case "<=":
+            to = bound.plusMinutes(1);
+            break;
+        case ">":
+            from = bound.plusMinutes(1);
+            break;
+        case ">=":
+            from = bound;
+            break;
+        default:
+            // due:<date> means due at any time on that day
+            from = bound;
+            to = relative.matches() ? bound.plusMinutes(1) : bound.plusDays(1);
+        }
+        LocalDateTime earliest = from;
+        LocalDateTime latest = to;
+        Condition condition = new Condition(Field.DUE, operator, isNegated, value, task -> {
+            LocalDateTime time = RecurrenceEngine.getTime(task, earliest == null ? now : earliest);
+            return time != null && (earliest == null || !time.isBefore(earliest))
+                    && (latest == null || time.isBefore(latest));
+        });
+        condition.dueFrom = from;
+        condition.dueTo = to;
+        return condition;
+    }
+
+    private static Condition parseDone(String value, String operator, boolean isNegated)
+            throws IllegalQueryException {
+        requireEquality(operator);
+        boolean isDone;
+        switch (value.toLowerCase()) {
+        case "yes":
+        case "true":
+            isDone = true;
+            break;
+        case "no":
+        case "false":
+            isDone = false;
+            break;
+        default:
+            throw new IllegalQueryException();
+        }
+        return new Condition(Field.DONE, operator, isNegated, value,
+            task -> task.getStatusIcon().equals("X") == isDone);
+    }
+
+    /**
+     * Reads a text condition, which matches tasks with every word of the value in their description
+     */
+    private static Condition parseText(String value, String operator, boolean isNegated)
+            throws IllegalQueryException {
+        requireEquality(operator);
+        String unquoted = value.startsWith("\"") && value.endsWith("\"") && value.length() > 1
+                ? value.substring(1, value.length() - 1) : value;
+        List<String> words = FuzzyIndex.tokenize(unquoted);
+        if (words.isEmpty()) {
+            throw new IllegalQueryException();
+        }
+        Condition condition = new Condition(Field.TEXT, ":", isNegated, "\"" + unquoted + "\"",
+            task -> FuzzyIndex.tokenize(task.getDescription()).containsAll(words));
+        condition.words = words;
+        return condition;
+    }
+
+    private static void requireEquality(String operator) throws IllegalQueryException {
+        if (!operator.equals(":") && !operator.equals("=")) {
+            throw new IllegalQueryException();
+        }
+    }
+}
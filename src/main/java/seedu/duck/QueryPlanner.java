@@ -0,0 +1,228 @@
+package seedu.duck;
+
+import seedu.duck.task.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Runs a {@link Query} against the task list. For each group of conditions the planner picks the
+ * condition that the indexes can answer with the fewest candidates, using the priority buckets,
+ * the schedule index or the word postings, and only tests the rest of the conditions on those
+ * candidates. Groups with no such condition fall back to scanning the whole list.
+ */
+public class QueryPlanner {
+    private static final Comparator<Task> LIST_ORDER = Comparator.comparingLong(Task::getSequenceNumber);
+
+    /**
+     * The way the candidates for one group of conditions are found
+     */
+    static class AccessPath {
+        private final String description;
+        private final Query.Condition condition;
+        private final int estimate;
+
+        private AccessPath(String description, Query.Condition condition, int estimate) {
+            this.description = description;
+            this.condition = condition;
+            this.estimate = estimate;
+        }
+
+        String getDescription() {
+            return description;
+        }
+
+        /**
+         * Returns the number of candidates the access path reads, or an upper bound on it
+         */
+        int getEstimate() {
+            return estimate;
+        }
+
+        boolean isFullScan() {
+            return condition == null;
+        }
+    }
+
+    /**
+     * The tasks matching a query, with their numbers in the list and the plan used to find them
+     */
+    static class Result {
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<Integer> indexes = new ArrayList<>();
+        private final List<AccessPath> plan = new ArrayList<>();
+        private int examinedCount;
+
+        List<Task> getTasks() {
+            return tasks;
+        }
+
+        /**
+         * Returns the numbers of the matching tasks in the list, starting from 1
+         */
+        List<Integer> getIndexes() {
+            return indexes;
+        }
+
+        List<AccessPath> getPlan() {
+            return plan;
+        }
+
+        /**
+         * Returns the number of candidate tasks that the conditions were tested on
+         */
+        int getExaminedCount() {
+            return examinedCount;
+        }
+    }
+
+    /**
+     * Finds the tasks matching a query
+     *
+     * @param tasks The array list of tasks
+     * @param query The compiled query
+     * @return The matching tasks in the order they appear in the list
+     */
+    static Result run(List<Task> tasks, Query query) {
+        Result result = new Result();
+        Set<Task> matches = new TreeSet<>(LIST_ORDER);
+        for (List<Query.Condition> group : query.getGroups()) {
+            AccessPath path = plan(group, tasks.size());
+            result.plan.add(path);
+            Collection<Task> candidates = path.isFullScan() ? tasks : getCandidates(path.condition);
+            for (Task candidate : candidates) {
+                result.examinedCount++;
+                if (Query.matchesAll(group, candidate)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        for (Task task : matches) {
+            result.tasks.add(task);
+            result.indexes.add(indexOf(tasks, task) + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Picks the access path with the fewest candidates for a group of conditions.
+     * Negated conditions and conditions on fields without an index are only used as filters.
+     *
+     * @param group The conditions that must all hold
+     * @param taskCount The number of tasks in the list
+     * @return The chosen access path
+     */
+    static AccessPath plan(List<Query.Condition> group, int taskCount) {
+        AccessPath best = new AccessPath("full scan", null, taskCount);
+        for (Query.Condition condition : group) {
+            if (condition.isNegated()) {
+                continue;
+            }
+            AccessPath path;
+            switch (condition.getField()) {
+            case PRIORITY:
+                path = new AccessPath("priority index on " + condition, condition, estimatePriority(condition));
+                break;
+            case TEXT:
+                path = new AccessPath("word index on " + condition, condition, getCandidates(condition).size());
+                break;
+            case DUE:
+                path = new AccessPath("schedule index on " + condition, condition, estimateDue(condition));
+                break;
+            default:
+                continue;
+            }
+            if (path.estimate < best.estimate) {
+                best = path;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Reads the candidates of an indexed condition
+     */
+    private static Collection<Task> getCandidates(Query.Condition condition) {
+        switch (condition.getField()) {
+        case PRIORITY:
+            int[] priorities = condition.getPriorityRange();
+            List<Task> withPriority = new ArrayList<>();
+            for (int priority = Math.max(priorities[0], 1); priority <= Math.min(priorities[1], 3); priority++) {
+                withPriority.addAll(PriorityIndex.getTasks(priority));
+            }
+            return withPriority;
+        case TEXT:
+            // Every word must be in the description, so the rarest word gives the fewest candidates
+            Set<Task> rarest = null;
+            for (String word : condition.getWords()) {
+                Set<Task> withWord = FuzzyIndex.getTasks(word);
+                if (rarest == null || withWord.size() < rarest.size()) {
+                    rarest = withWord;
+                }
+            }
+            return rarest;
+        case DUE:
+            List<Task> due = new ArrayList<>();
+            for (Set<Task> tasksOnDay : getDatedTasks(condition)) {
+                due.addAll(tasksOnDay);
+            }
+            due.addAll(ScheduleIndex.getRecurringTasks());
+            return due;
+        default:
+            throw new IllegalArgumentException("No index on " + condition.getField());
+        }
+    }
+
+    private static int estimatePriority(Query.Condition condition) {
+        int[] priorities = condition.getPriorityRange();
+        int estimate = 0;
+        for (int priority = Math.max(priorities[0], 1); priority <= Math.min(priorities[1], 3); priority++) {
+            estimate += PriorityIndex.getTasks(priority).size();
+        }
+        return estimate;
+    }
+
+    private static int estimateDue(Query.Condition condition) {
+        int estimate = ScheduleIndex.getRecurringCount();
+        for (Set<Task> tasksOnDay : getDatedTasks(condition)) {
+            estimate += tasksOnDay.size();
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the days of the schedule index that a due condition can match on
+     */
+    private static Collection<TreeSet<Task>> getDatedTasks(Query.Condition condition) {
+        LocalDateTime[] range = condition.getDueRange();
+        LocalDate from = range[0] == null ? null : range[0].toLocalDate();
+        LocalDate to = range[1] == null ? null : range[1].minusMinutes(1).toLocalDate();
+        return ScheduleIndex.getDatedTasks(from, to);
+    }
+
+    /**
+     * Finds the position of a task in the list, which is kept in the order the tasks were added
+     */
+    static int indexOf(List<Task> tasks, Task task) {
+        int low = 0;
+        int high = tasks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = LIST_ORDER.compare(tasks.get(middle), task);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return tasks.indexOf(task);
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.duck;
+
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurring;
+import seedu.duck.task.Task;
+import seedu.duck.util.DateTimeCodec;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Generates the occurrences of deadlines and events over a range of time. Recurring tasks
+ * are expanded lazily from their recurrence rules and merged in time order with the dated
+ * tasks, so only the next occurrence of each series is held at any time and a view can
+ * stop reading as soon as it has what it needs.
+ */
+public class RecurrenceEngine {
+    private static final Comparator<Occurrence> TIME_ORDER = Comparator.comparing(Occurrence::getTime)
+            .thenComparingLong(occurrence -> occurrence.getTask().getSequenceNumber());
+
+    /**
+     * A deadline or event happening at a given time. For deadlines this is the time it is due,
+     * and for events the time it starts.
+     */
+    static class Occurrence {
+        private final Task task;
+        private final LocalDateTime time;
+
+        private Occurrence(Task task, LocalDateTime time) {
+            this.task = task;
+            this.time = time;
+        }
+
+        Task getTask() {
+            return task;
+        }
+
+        LocalDateTime getTime() {
+            return time;
+        }
+
+        boolean isRecurring() {
+            return task instanceof Recurring;
+        }
+    }
+
+    /**
+     * An iterator that can look at its next element without taking it
+     */
+    private static class Source {
+        private final Iterator<Occurrence> iterator;
+        private Occurrence head;
+
+        private Source(Iterator<Occurrence> iterator) {
+            this.iterator = iterator;
+            this.head = iterator.next();
+        }
+
+        private boolean advance() {
+            head = iterator.hasNext() ? iterator.next() : null;
+            return head != null;
+        }
+    }
+
+    /**
+     * Generates the occurrences of a recurring task that fall in a time range
+     *
+     * @param task The recurring deadline or event
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, exclusive, or null if the range has no end
+     * @return The occurrences in time order
+     */
+    static Stream<Occurrence> occurrences(Recurring task, LocalDateTime from, LocalDateTime to) {
+        LocalTime time;
+        try {
+            time = DateTimeCodec.parseTime(task.getTimeOfDay());
+        } catch (DateTimeException e) {
+            return Stream.empty();
+        }
+        LocalDate lastDate = to == null ? LocalDate.MAX.minusWeeks(1) : to.toLocalDate();
+        return task.getRecurrence().occurrences(from.toLocalDate(), lastDate)
+                .map(date -> new Occurrence((Task) task, date.atTime(time)))
+                .dropWhile(occurrence -> occurrence.time.isBefore(from))
+                .takeWhile(occurrence -> to == null || occurrence.time.isBefore(to));
+    }
+
+    /**
+     * Generates the occurrences of all deadlines and events in a time range in time order,
+     * with occurrences at the same time in the order the tasks were added.
+     * Reading only the first few occurrences still expands the first occurrence of every recurring
+     * task that passes the filter, and the dated tasks are read a whole day at a time, so each day up
+     * to the last occurrence read is parsed and sorted in full.
+     *
+     * @param from The start of the range, inclusive
+     * @param to The end of the range, exclusive, or null if the range has no end
+     * @param filter The tasks to include
+     * @return The occurrences in time order
+     */
+    static Stream<Occurrence> between(LocalDateTime from, LocalDateTime to, Predicate<Task> filter) {
+        PriorityQueue<Source> sources = new PriorityQueue<>(Comparator.comparing(source -> source.head, TIME_ORDER));
+        addSource(sources, getDatedOccurrences(from, to, filter));
+        for (Task task : ScheduleIndex.getRecurringTasks()) {
+            if (filter.test(task)) {
+                addSource(sources, occurrences((Recurring) task, from, to));
+            }
+        }
+        Iterator<Occurrence> merged = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !sources.isEmpty();
+            }
+
+            @Override
+            public Occurrence next() {
+                Source source = sources.poll();
+                if (source == null) {
+                    throw new NoSuchElementException();
+                }
+                Occurrence occurrence = source.head;
+                if (source.advance()) {
+                    sources.add(source);
+                }
+                return occurrence;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns the first occurrence at or after a given time
+     *
+     * @param from The time to start looking from
+     * @param filter The tasks to include
+     * @return The next occurrence, or null if there is none
+     */
+    static Occurrence next(LocalDateTime from, Predicate<Task> filter) {
+        return between(from, null, filter).findFirst().orElse(null);
+    }
+
+    /**
+     * Returns the time a deadline is due or an event starts. For recurring tasks this is the
+     * time of the first occurrence at or after the given time.
+     *
+     * @param task The task
+     * @param from The time to look for recurring occurrences from
+     * @return The time, or null if the task is a todo, has no more occurrences or its time cannot be read
+     */
+    static LocalDateTime getTime(Task task, LocalDateTime from) {
+        if (task instanceof Recurring) {
+            return occurrences((Recurring) task, from, null).map(Occurrence::getTime).findFirst().orElse(null);
+        }
+        Occurrence occurrence = toOccurrence(task);
+        return occurrence == null ? null : occurrence.time;
+    }
+
+    /**
+     * Generates the occurrences of the dated deadlines and events in a time range, reading
+     * one day of the schedule index at a time
+     */
+    private static Stream<Occurrence> getDatedOccurrences(LocalDateTime from, LocalDateTime to,
+                                                          Predicate<Task> filter) {
+        LocalDate lastDate = to == null ? null : to.toLocalDate();
+        return ScheduleIndex.getDatedTasks(from.toLocalDate(), lastDate).stream()
+                .flatMap(tasksOnDay -> tasksOnDay.stream()
+                        .filter(filter)
+                        .map(RecurrenceEngine::toOccurrence)
+                        .filter(Objects::nonNull)
+                        .sorted(TIME_ORDER))
+                .dropWhile(occurrence -> occurrence.time.isBefore(from))
+                .takeWhile(occurrence -> to == null || occurrence.time.isBefore(to));
+    }
+
+    private static Occurrence toOccurrence(Task task) {
+        try {
+            if (task instanceof Deadline) {
+                return new Occurrence(task, DateTimeCodec.parseDateTime(((Deadline) task).getDeadline()));
+            } else if (task instanceof Event) {
+                return new Occurrence(task, DateTimeCodec.parseDateTime(((Event) task).getStart()));
+            }
+        } catch (DateTimeException e) {
+            // Tasks with times that cannot be read have no occurrences
+        }
+        return null;
+    }
+
+    private static void addSource(PriorityQueue<Source> sources, Stream<Occurrence> occurrences) {
+        Iterator<Occurrence> iterator = occurrences.iterator();
+        if (iterator.hasNext()) {
+            sources.add(new Source(iterator));
+        }
+    }
+}
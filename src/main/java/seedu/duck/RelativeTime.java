@@ -0,0 +1,61 @@
+package seedu.duck;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Writes the time between two moments in years, months, days, hours and minutes, such as
+ * "1 month 2 days 3 hours ". Months and years are counted on the calendar from the first moment,
+ * so a month is 28 to 31 days long, and the rest is counted in whole minutes. Everything is
+ * appended to a builder given by the caller, so no strings are made along the way.
+ */
+public class RelativeTime {
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+
+    /**
+     * Appends the time from one moment to another. Each part is followed by a space, and parts that
+     * are zero are left out, so nothing is appended if the moments are less than a minute apart.
+     * If the second moment is before the first, every part is negative.
+     *
+     * @param out The builder to append to
+     * @param from The earlier moment, such as now
+     * @param to The later moment, such as a deadline
+     * @return The builder
+     */
+    static StringBuilder append(StringBuilder out, LocalDateTime from, LocalDateTime to) {
+        int sign = 1;
+        if (to.isBefore(from)) {
+            LocalDateTime earlier = to;
+            to = from;
+            from = earlier;
+            sign = -1;
+        }
+        // Whole months, less one if the day and time of the month have not come round again yet
+        long months = (to.getYear() - from.getYear()) * (long) MONTHS_PER_YEAR + to.getMonthValue()
+                - from.getMonthValue();
+        if (to.getDayOfMonth() < from.getDayOfMonth() || to.getDayOfMonth() == from.getDayOfMonth()
+                && to.toLocalTime().isBefore(from.toLocalTime())) {
+            months--;
+        }
+        long minutes = from.plusMonths(months).until(to, ChronoUnit.MINUTES);
+        appendPart(out, sign * (months / MONTHS_PER_YEAR), "year");
+        appendPart(out, sign * (months % MONTHS_PER_YEAR), "month");
+        appendPart(out, sign * (minutes / MINUTES_PER_DAY), "day");
+        appendPart(out, sign * (minutes % MINUTES_PER_DAY / MINUTES_PER_HOUR), "hour");
+        appendPart(out, sign * (minutes % MINUTES_PER_HOUR), "minute");
+        return out;
+    }
+
+    private static void appendPart(StringBuilder out, long count, String unit) {
+        if (count == 0) {
+            return;
+        }
+        out.append(count).append(' ').append(unit);
+        if (count != 1) {
+            out.append('s');
+        }
+        out.append(' ');
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.duck;
+
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurring;
+import seedu.duck.task.Task;
+import seedu.duck.util.DateTimeCodec;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reminds the user of deadlines and events a set number of minutes before they are due or start.
+ * A background thread waits on a queue ordered by reminder time and only wakes up when the
+ * earliest reminder is due, so it uses no CPU while idle no matter how many reminders are pending.
+ * Recurring tasks are reminded of each occurrence in turn.
+ * A due reminder is printed by the thread itself under the write lock of the task store, so it shows up
+ * while the user is idle but never in the middle of the response to a command.
+ */
+public class ReminderScheduler {
+    static final long DEFAULT_LEAD_MINUTES = 60;
+
+    private static final DelayQueue<Reminder> queue = new DelayQueue<>();
+    private static final Map<Task, Reminder> reminders = new IdentityHashMap<>();
+    private static final Set<Task> registeredTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Occurrences already reminded of, so that reloading the list does not repeat them
+    private static final Map<String, LocalDateTime> remindedOccurrences = new HashMap<>();
+    private static long leadMinutes = DEFAULT_LEAD_MINUTES;
+    private static boolean isEnabled = true;
+    private static Thread thread;
+    private static TaskStore store;
+
+    /**
+     * A reminder for one occurrence of a task
+     */
+    private static class Reminder implements Delayed {
+        private final Task task;
+        private final LocalDateTime occurrence;
+        private final long remindAtMillis;
+        // Set when the task is deleted or the reminders are scheduled again, and checked once it is due
+        private boolean isCancelled;
+
+        private Reminder(Task task, LocalDateTime occurrence, long remindAtMillis) {
+            this.task = task;
+            this.occurrence = occurrence;
+            this.remindAtMillis = remindAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(remindAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(remindAtMillis, ((Reminder) other).remindAtMillis);
+        }
+    }
+
+    /**
+     * Starts the thread that prints the reminders when they are due
+     *
+     * @param taskStore The store holding the tasks to be reminded of
+     */
+    static synchronized void start(TaskStore taskStore) {
+        if (thread != null) {
+            return;
+        }
+        store = taskStore;
+        thread = new Thread(ReminderScheduler::run, "reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    static synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    /**
+     * Schedules a reminder for the next occurrence of a task that has just been added to the list.
+     * Tasks that are not deadlines or events are ignored.
+     *
+     * @param task The task that has been added to the list
+     */
+    static synchronized void add(Task task) {
+        registeredTasks.add(task);
+        schedule(task, LocalDateTime.now());
+    }
+
+    /**
+     * Cancels the reminder of a task. The reminder is left in the queue and dropped once it is due.
+     *
+     * @param task The task that has been removed from the list
+     */
+    static synchronized void remove(Task task) {
+        registeredTasks.remove(task);
+        Reminder reminder = reminders.remove(task);
+        if (reminder != null) {
+            reminder.isCancelled = true;
+        }
+    }
+
+    static synchronized void clear() {
+        registeredTasks.clear();
+        cancelAll();
+    }
+
+    /**
+     * Changes how long before a deadline or event the reminder is given, and schedules the
+     * reminders of all tasks again
+     *
+     * @param minutes The number of minutes before, or a negative number to turn reminders off
+     */
+    static synchronized void setLeadMinutes(long minutes) {
+        isEnabled = minutes >= 0;
+        leadMinutes = Math.max(minutes, 0);
+        cancelAll();
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : registeredTasks) {
+            schedule(task, now);
+        }
+    }
+
+    /**
+     * Cancels every pending reminder, including one that the thread has taken from the queue but
+     * not printed yet
+     */
+    private static void cancelAll() {
+        for (Reminder reminder : reminders.values()) {
+            reminder.isCancelled = true;
+        }
+        reminders.clear();
+        queue.clear();
+    }
+
+    static synchronized long getLeadMinutes() {
+        return isEnabled ? leadMinutes : -1;
+    }
+
+    static synchronized int getPendingCount() {
+        return reminders.size();
+    }
+
+    private static void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Reminder reminder;
+            try {
+                reminder = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                // Under the write lock, so the task does not change and no command is printing
+                store.write((tasks, classes) -> remind(reminder));
+            } catch (IOException e) {
+                // Reminding does not write anything but the reminder itself
+            }
+        }
+    }
+
+    /**
+     * Prints a reminder taken from the queue, unless it has been cancelled or its task has been
+     * marked as done in the meantime, and schedules the next occurrence of recurring tasks
+     */
+    private static synchronized void remind(Reminder reminder) {
+        if (reminder.isCancelled) {
+            return;
+        }
+        reminders.remove(reminder.task);
+        LocalDateTime now = LocalDateTime.now();
+        remindedOccurrences.values().removeIf(occurrence -> occurrence.isBefore(now));
+        remindedOccurrences.put(getKey(reminder.task, reminder.occurrence), reminder.occurrence);
+        if (!reminder.task.getStatusIcon().equals("X")) {
+            Ui.reminderMessage(reminder.task, reminder.occurrence);
+            OutputSink.flush();
+        }
+        if (reminder.task instanceof Recurring) {
+            schedule(reminder.task, reminder.occurrence.plusMinutes(1));
+        }
+    }
+
+    /**
+     * Queues a reminder for the first occurrence of a task at or after a given time that
+     * has not been reminded of yet. The reminder is due right away if the occurrence is
+     * sooner than the lead time.
+     */
+    private static void schedule(Task task, LocalDateTime after) {
+        if (!isEnabled) {
+            return;
+        }
+        LocalDateTime occurrence = getNextOccurrence(task, after);
+        while (occurrence != null && remindedOccurrences.containsKey(getKey(task, occurrence))) {
+            occurrence = task instanceof Recurring ? getNextOccurrence(task, occurrence.plusMinutes(1)) : null;
+        }
+        if (occurrence == null) {
+            return;
+        }
+        long remindAtMillis = occurrence.minusMinutes(leadMinutes).atZone(ZoneId.systemDefault())
+                .toInstant().toEpochMilli();
+        Reminder reminder = new Reminder(task, occurrence, remindAtMillis);
+        reminders.put(task, reminder);
+        queue.add(reminder);
+    }
+
+    private static LocalDateTime getNextOccurrence(Task task, LocalDateTime after) {
+        try {
+            LocalDateTime occurrence = null;
+            if (task instanceof Recurring) {
+                occurrence = RecurrenceEngine.occurrences((Recurring) task, after, null)
+                        .map(RecurrenceEngine.Occurrence::getTime).findFirst().orElse(null);
+            } else if (task instanceof Deadline) {
+                occurrence = DateTimeCodec.parseDateTime(((Deadline) task).getDeadline());
+            } else if (task instanceof Event) {
+                occurrence = DateTimeCodec.parseDateTime(((Event) task).getStart());
+            }
+            return occurrence != null && occurrence.isAfter(after) ? occurrence : null;
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static String getKey(Task task, LocalDateTime occurrence) {
+        return task.getDescription() + "@" + occurrence;
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.duck;
+
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurring;
+import seedu.duck.task.Task;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Keeps recurring tasks and dated tasks bucketed by the day they happen on, so that the
+ * tasks for a single day only visit the items on that day. Classes are looked up by day
+ * in the {@link ClassSchedule} instead.
+ */
+public class ScheduleIndex {
+    private static final Comparator<Task> LIST_ORDER = Comparator.comparingLong(Task::getSequenceNumber);
+
+    private static final EnumMap<DayOfWeek, TreeSet<Task>> recurringByDay = new EnumMap<>(DayOfWeek.class);
+    private static final TreeMap<LocalDate, TreeSet<Task>> tasksByDate = new TreeMap<>();
+
+    /**
+     * Adds a deadline or event to the bucket of the day it happens on. Todos are not scheduled.
+     *
+     * @param task The task that has been added to the list
+     */
+    static void add(Task task) {
+        if (task instanceof Recurring) {
+            recurringByDay.computeIfAbsent(((Recurring) task).getRecurrence().getDay(),
+                    day -> new TreeSet<>(LIST_ORDER)).add(task);
+        } else {
+            LocalDate date = getDate(task);
+            if (date != null) {
+                tasksByDate.computeIfAbsent(date, day -> new TreeSet<>(LIST_ORDER)).add(task);
+            }
+        }
+    }
+
+    /**
+     * Removes a deadline or event from the bucket of the day it happens on
+     *
+     * @param task The task that has been removed from the list
+     */
+    static void remove(Task task) {
+        if (task instanceof Recurring) {
+            removeFrom(recurringByDay.get(((Recurring) task).getRecurrence().getDay()), task);
+        } else {
+            LocalDate date = getDate(task);
+            if (date != null) {
+                TreeSet<Task> bucket = tasksByDate.get(date);
+                removeFrom(bucket, task);
+                if (bucket != null && bucket.isEmpty()) {
+                    tasksByDate.remove(date);
+                }
+            }
+        }
+    }
+
+    static void clear() {
+        recurringByDay.clear();
+        tasksByDate.clear();
+    }
+
+    /**
+     * Returns the deadlines and events happening on a date, in the order they appear in the list.
+     * Recurring tasks on the day of the week of that date are included if their recurrence
+     * rule has an occurrence on that date.
+     *
+     * @param date The date to look up
+     * @return The tasks happening on that date
+     */
+    static List<Task> getTasks(LocalDate date) {
+        Set<Task> recurring = new TreeSet<>(LIST_ORDER);
+        for (Task task : recurringByDay.getOrDefault(date.getDayOfWeek(), new TreeSet<>(LIST_ORDER))) {
+            if (((Recurring) task).getRecurrence().occursOn(date)) {
+                recurring.add(task);
+            }
+        }
+        Set<Task> dated = tasksByDate.getOrDefault(date, new TreeSet<>(LIST_ORDER));
+        List<Task> result = new ArrayList<>(recurring.size() + dated.size());
+        Iterator<Task> recurringIterator = recurring.iterator();
+        Iterator<Task> datedIterator = dated.iterator();
+        Task nextRecurring = recurringIterator.hasNext() ? recurringIterator.next() : null;
+        Task nextDated = datedIterator.hasNext() ? datedIterator.next() : null;
+        while (nextRecurring != null || nextDated != null) {
+            if (nextDated == null || (nextRecurring != null && LIST_ORDER.compare(nextRecurring, nextDated) < 0)) {
+                result.add(nextRecurring);
+                nextRecurring = recurringIterator.hasNext() ? recurringIterator.next() : null;
+            } else {
+                result.add(nextDated);
+                nextDated = datedIterator.hasNext() ? datedIterator.next() : null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all recurring deadlines and events, grouped by the day of the week they recur on
+     *
+     * @return The recurring tasks
+     */
+    static List<Task> getRecurringTasks() {
+        List<Task> result = new ArrayList<>();
+        for (TreeSet<Task> tasksOnDay : recurringByDay.values()) {
+            result.addAll(tasksOnDay);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dated deadlines and events between two dates, one group per date in date order.
+     * The groups are views of the index and are not copied.
+     *
+     * @param from The first date, inclusive, or null for every date up to the last date
+     * @param to The last date, inclusive, or null for every date from the first date onwards
+     * @return The tasks on each date that has any
+     */
+    static Collection<TreeSet<Task>> getDatedTasks(LocalDate from, LocalDate to) {
+        if (from == null && to == null) {
+            return tasksByDate.values();
+        } else if (from == null) {
+            return tasksByDate.headMap(to, true).values();
+        } else if (to == null) {
+            return tasksByDate.tailMap(from, true).values();
+        } else if (to.isBefore(from)) {
+            return Collections.emptyList();
+        }
+        return tasksByDate.subMap(from, true, to, true).values();
+    }
+
+    static int getRecurringCount() {
+        int count = 0;
+        for (TreeSet<Task> tasksOnDay : recurringByDay.values()) {
+            count += tasksOnDay.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the date a non-recurring deadline or event happens on, taken from
+     * the date part of its yyyy-MM-dd HHmm time
+     *
+     * @param task The task to get the date of
+     * @return The date of the deadline or the start date of the event, or null if it has none
+     */
+    private static LocalDate getDate(Task task) {
+        String dateTime;
+        if (task instanceof Deadline) {
+            dateTime = ((Deadline) task).getDeadline();
+        } else if (task instanceof Event) {
+            dateTime = ((Event) task).getStart();
+        } else {
+            return null;
+        }
+        try {
+            return LocalDate.parse(dateTime.substring(0, dateTime.indexOf(' ')));
+        } catch (DateTimeException | IndexOutOfBoundsException e) {
+            // Times that cannot be read are left out of the schedule
+            return null;
+        }
+    }
+
+    private static <T> void removeFrom(Set<T> bucket, T item) {
+        if (bucket != null) {
+            bucket.remove(item);
+        }
+    }
+}
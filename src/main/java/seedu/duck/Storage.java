@@ -1,6 +1,7 @@
 package seedu.duck;
 
 
+import seedu.duck.exception.IllegalRecurrenceException;
 import seedu.duck.task.*;
 
 import java.io.File;
@@ -9,7 +10,6 @@ import java.io.PrintWriter;
 import java.io.IOException;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
-import java.util.PriorityQueue;
 import java.util.Scanner;
 
 /**
@@ -19,13 +19,16 @@ public class Storage {
     static final String SAVEPATH = "data/savedata.txt";
     static final String SAVEFOLDER = "data";
 
+    private static boolean isSavingDeferred = false;
+    private static boolean hasUnsavedChanges = false;
+
     /**
      * Load tasks and the notes under the task from save data into the list
      *
      * @param line  The line of input from the save file
      * @param tasks The array list of tasks
      */
-    static void loadTask(String line, ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes, String doneStatus)
+    static void loadTask(String line, ArrayList<Task> tasks, ClassSchedule classes, String doneStatus)
             throws IndexOutOfBoundsException {
         if (line.contains("/by")) {
             if (line.contains("/day")) {
@@ -82,6 +85,7 @@ public class Storage {
         String priority = line.substring(line.indexOf("<p>") + 3,line.indexOf("<n>")).trim();
         currTodo.setPriority(priority);
         tasks.add(currTodo);
+        TaskList.indexTask(currTodo);
         String savedNotes = line.substring(line.indexOf("<n>") + 3);
         if (savedNotes.charAt(0) == '1'){
             savedNotes = savedNotes.substring(1);
@@ -109,6 +113,7 @@ public class Storage {
         Event currEvent = new Event(description, start, end);
         currEvent.setPriority(priority);
         tasks.add(currEvent);
+        TaskList.indexTask(currEvent);
         String savedNotes = line.substring(line.indexOf("<n>") + 3);
         if (savedNotes.charAt(0) == '1'){
             savedNotes = savedNotes.substring(1);
@@ -125,10 +130,10 @@ public class Storage {
         String start = line.substring(line.indexOf("/from") + 5, line.indexOf("/to")).trim();
         String end = line.substring(line.indexOf("/to") + 3, line.indexOf("<p>")).trim();
         String priority = line.substring(line.indexOf("<p>") + 3, line.indexOf("/day")).trim();
-        DayOfWeek day = DayOfWeek.valueOf(line.substring(line.indexOf("/day") + 4).trim());
-        RecurringEvent currEvent = new RecurringEvent(description, start, end, day);
+        RecurringEvent currEvent = new RecurringEvent(description, start, end, loadRecurrence(line));
         currEvent.setPriority(priority);
         tasks.add(currEvent);
+        TaskList.indexTask(currEvent);
     }
 
     /**
@@ -136,9 +141,9 @@ public class Storage {
      * to be used when loading from save data.
      *
      * @param line    The line of input from the user
-     * @param classes The priority queue of school classes
+     * @param classes The class schedule
      */
-    static void loadSchoolClass(String line, PriorityQueue<SchoolClass> classes) {
+    static void loadSchoolClass(String line, ClassSchedule classes) {
         String description = line.substring(0, line.indexOf("/class")).trim();
         String className = line.substring(line.indexOf("/class") + 6, line.indexOf("/day")).trim();
         DayOfWeek day = DayOfWeek.valueOf(line.substring(line.indexOf("/day") + 4, line.indexOf("/from")).trim());
@@ -148,6 +153,7 @@ public class Storage {
 
         TaskList.checkClassOver(day, endString, currSchoolClass);
         classes.add(currSchoolClass);
+        TaskList.indexClass(currSchoolClass);
     }
 
     /**
@@ -164,6 +170,7 @@ public class Storage {
         Deadline currDeadline = new Deadline(description, deadline);
         currDeadline.setPriority(priority);
         tasks.add(currDeadline);
+        TaskList.indexTask(currDeadline);
         String savedNotes = line.substring(line.indexOf("<n>") + 3);
         if (savedNotes.charAt(0) == '1'){
             savedNotes = savedNotes.substring(1);
@@ -185,10 +192,25 @@ public class Storage {
         String description = line.substring(0, line.indexOf("/by")).trim();
         String deadline = line.substring(line.indexOf("/by") + 3, line.indexOf("<p>")).trim();
         String priority = line.substring(line.indexOf("<p>") + 3, line.indexOf("/day")).trim();
-        DayOfWeek day = DayOfWeek.valueOf(line.substring(line.indexOf("/day") + 4).trim());
-        RecurringDeadline currDeadline = new RecurringDeadline(description, deadline, day);
+        RecurringDeadline currDeadline = new RecurringDeadline(description, deadline, loadRecurrence(line));
         currDeadline.setPriority(priority);
         tasks.add(currDeadline);
+        TaskList.indexTask(currDeadline);
+    }
+
+    /**
+     * Reads the recurrence rule following /day in a line of save data
+     *
+     * @param line The line of input from save file
+     * @return The recurrence rule
+     */
+    private static Recurrence loadRecurrence(String line) {
+        try {
+            return Recurrence.parse(line.substring(line.indexOf("/day") + 4));
+        } catch (IllegalRecurrenceException e) {
+            // Handled the same way as any other corrupted line
+            throw new IndexOutOfBoundsException();
+        }
     }
 
     /**
@@ -199,11 +221,7 @@ public class Storage {
      */
     static void loadTaskStatus(ArrayList<Task> tasks, String doneStatus) {
         int taskNumber = Task.getTaskCount();
-        if (doneStatus.equals("1")) {
-            tasks.get(taskNumber).markAsDone();
-        } else {
-            tasks.get(taskNumber).markAsNotDone();
-        }
+        TaskList.setDone(tasks.get(taskNumber), doneStatus.equals("1"));
     }
 
     /**
@@ -211,7 +229,7 @@ public class Storage {
      *
      * @param tasks The array list of tasks
      */
-    static void save(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) throws IOException {
+    static void save(ArrayList<Task> tasks, ClassSchedule classes) throws IOException {
         File f = new File(SAVEPATH);
         if (f.exists()) {
             f.delete();
@@ -225,11 +243,10 @@ public class Storage {
         }
         fw.close();
 
-        // Saving the class schedule to the save file
+        // Saving the class schedule to the save file, which is already in chronological order
         FileWriter fw2 = new FileWriter(SAVEPATH, true);
-        PriorityQueue<SchoolClass> temp = new PriorityQueue<SchoolClass>(classes);
-        while (!temp.isEmpty()) {
-            fw2.write(temp.poll().toSaveString());
+        for (SchoolClass schoolClass : classes) {
+            fw2.write(schoolClass.toSaveString());
         }
         fw2.close();
     }
@@ -239,7 +256,11 @@ public class Storage {
      *
      * @param tasks The array list of tasks
      */
-    static void trySave(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) {
+    static void trySave(ArrayList<Task> tasks, ClassSchedule classes) {
+        if (isSavingDeferred) {
+            hasUnsavedChanges = true;
+            return;
+        }
         try {
             save(tasks, classes);
         } catch (IOException e) {
@@ -247,12 +268,46 @@ public class Storage {
         }
     }
 
+    /**
+     * Holds back saves until finishDeferredSaves is called, so that a batch of commands
+     * rewrites the save file once instead of once per command
+     */
+    static void deferSaves() {
+        isSavingDeferred = true;
+    }
+
+    static boolean areSavesDeferred() {
+        return isSavingDeferred;
+    }
+
+    /**
+     * Stops holding back saves, and saves once if any command tried to save in the meantime
+     *
+     * @param tasks The array list of tasks
+     * @param classes The class schedule
+     */
+    static void finishDeferredSaves(ArrayList<Task> tasks, ClassSchedule classes) {
+        isSavingDeferred = false;
+        if (hasUnsavedChanges) {
+            hasUnsavedChanges = false;
+            trySave(tasks, classes);
+        }
+    }
+
+    /**
+     * Stops holding back saves without saving the changes made in the meantime
+     */
+    static void discardDeferredSaves() {
+        isSavingDeferred = false;
+        hasUnsavedChanges = false;
+    }
+
     /**
      * Load the save data
      *
      * @param tasks The array list of tasks
      */
-    static void load(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) throws IOException,
+    static void load(ArrayList<Task> tasks, ClassSchedule classes) throws IOException,
             IndexOutOfBoundsException {
         File folder = new File(SAVEFOLDER);
         if (!folder.exists()) {
@@ -288,7 +343,7 @@ public class Storage {
      *
      * @param tasks The array list of tasks
      */
-    static void tryLoad(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) {
+    static void tryLoad(ArrayList<Task> tasks, ClassSchedule classes) {
         try {
             load(tasks, classes);
         } catch (IOException e) {
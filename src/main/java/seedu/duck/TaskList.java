@@ -2,20 +2,23 @@ package seedu.duck;
 
 import seedu.duck.exception.*;
 import seedu.duck.task.*;
+import seedu.duck.util.DateTimeCodec;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.DayOfWeek;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.PriorityQueue;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Contains operations to make changes to the list of tasks or the class schedule
@@ -27,16 +30,32 @@ public class TaskList {
     private static final int TO_OFFSET = 3;
     private static final int DAY_OFFSET = 4;
     private static final int BY_OFFSET = 3;
+    private static final int CLASS_OFFSET = 6;
+    private static final Set<String> EDIT_FIELDS = Set.of("/description", "/from", "/to", "/deadline", "/day");
 
-    static void addTask(String line, ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) {
-        if (line.contains("/by")) {
+    static void addTask(String line, ArrayList<Task> tasks, ClassSchedule classes) {
+        addTask(CommandLine.parse(line), tasks, classes);
+    }
+
+    /**
+     * Adds the task described by a line of user input, picking the kind of task from the flags on the line
+     *
+     * @param command The line of input from the user, split into words
+     * @param tasks The array list of tasks
+     * @param classes The class schedule
+     */
+    static void addTask(CommandLine command, ArrayList<Task> tasks, ClassSchedule classes) {
+        String line = command.getLine();
+        if (command.hasFlag("/by")) {
             // Adding a Deadline
-            if (line.contains("/re")) {
+            if (command.hasFlag("/re")) {
                 try {
-                    addRecurringDeadline(line, tasks);
+                    addRecurringDeadline(command, tasks);
                     Task.incrementCount();
                 } catch(IllegalDeadlineException | StringIndexOutOfBoundsException e) {
                     Ui.deadlineErrorMessage();
+                } catch (IllegalRecurrenceException e) {
+                    Ui.recurrenceErrorMessage();
                 } catch (IllegalArgumentException e) {
                     Ui.invalidDayMessage();
                 } catch (DateTimeParseException e) {
@@ -44,7 +63,7 @@ public class TaskList {
                 }
             } else {
                 try {
-                    addDeadline(line, tasks);
+                    addDeadline(command, tasks);
                     Task.incrementCount();
                 } catch (IllegalDeadlineException e) {
                     Ui.deadlineErrorMessage();
@@ -54,10 +73,10 @@ public class TaskList {
                     Ui.invalidDateTimeMessage();
                 }
             }
-        } else if (line.contains("/class")) {
+        } else if (command.hasFlag("/class")) {
             // Adding a SchoolClass
             try {
-                addSchoolClass(line, classes);
+                addSchoolClass(command, classes);
             } catch (IllegalSchoolClassException | IndexOutOfBoundsException e) {
                 Ui.eventErrorMessage();
             } catch (expiredDateException e) {
@@ -67,14 +86,16 @@ public class TaskList {
             } catch (DateTimeException e) {
                 Ui.invalidDateTimeMessage();
             }
-        } else if (line.contains("/from") && line.contains("/to")) {
+        } else if (command.hasFlag("/from") && command.hasFlag("/to")) {
             // Adding an Event
-            if (line.contains("/re")) {
+            if (command.hasFlag("/re")) {
                 try {
-                    addRecurringEvent(line, tasks);
+                    addRecurringEvent(command, tasks);
                     Task.incrementCount();
                 } catch (IllegalEventException | StringIndexOutOfBoundsException e) {
                     Ui.eventErrorMessage();
+                } catch (IllegalRecurrenceException e) {
+                    Ui.recurrenceErrorMessage();
                 } catch (IllegalArgumentException e) {
                     Ui.invalidDayMessage();
                 } catch (DateTimeParseException e) {
@@ -82,7 +103,7 @@ public class TaskList {
                 }
             } else {
                 try {
-                    addEvent(line, tasks);
+                    addEvent(command, tasks);
                     Task.incrementCount();
                 } catch (IllegalEventException | IndexOutOfBoundsException e) {
                     Ui.eventErrorMessage();
@@ -94,7 +115,7 @@ public class TaskList {
                     Ui.invalidDateTimeMessage();
                 }
             }
-        } else if (line.trim().split(" ")[0].equals("/todo")){
+        } else if (command.isWord(0, "/todo")) {
             // Adding a _Todo_
             try {
                 addTodo(line, tasks);
@@ -121,6 +142,7 @@ public class TaskList {
         } else {
             Todo currTodo = new Todo(description);
             tasks.add(currTodo);
+            indexTask(currTodo);
             Ui.addedTaskMessage(currTodo);
         }
     }
@@ -143,7 +165,8 @@ public class TaskList {
                 // Input task number exceeds the number of tasks in the list
                 Ui.exceedTaskNumberMessage(taskNumber);
             } else {
-                tasks.get(taskNumber - 1).setPriority(words[2]);
+                Task taskToPrioritise = tasks.get(taskNumber - 1);
+                changePriority(taskToPrioritise, words[2]);
                 // Printing out marked as done message
                 Ui.borderLine();
                 System.out.println("\t Understood. The task's new priority is:");
@@ -153,20 +176,28 @@ public class TaskList {
         }
     }
 
+    static void addEvent(String line, ArrayList<Task> tasks) throws IllegalEventException, startAfterEndException,
+            expiredDateException {
+        addEvent(CommandLine.parse(line), tasks);
+    }
+
     /**
-     * Adds an event to the list
+     * Adds an event to the list. The description and times are cut at the /from and /to flags,
+     * so words that only start with a flag, such as /tokyo, stay in the description.
      *
-     * @param line  The line of input from the user
+     * @param command The line of input from the user, split into words
      * @param tasks The array list of tasks
      */
-    static void addEvent(String line, ArrayList<Task> tasks) throws IllegalEventException, startAfterEndException,
-            expiredDateException {
-        String description = line.substring(0, line.indexOf("/from")).trim();
-        String startString = line.substring(line.indexOf("/from") + FROM_OFFSET, line.indexOf("/to")).trim();
-        String endString = line.substring(line.indexOf("/to") + 3).trim();
-        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-        LocalDateTime start = LocalDateTime.parse(startString, dateFormat);
-        LocalDateTime end = LocalDateTime.parse(endString, dateFormat);
+    static void addEvent(CommandLine command, ArrayList<Task> tasks) throws IllegalEventException,
+            startAfterEndException, expiredDateException {
+        String line = command.getLine();
+        int from = command.getFlagOffset("/from");
+        int to = command.getFlagOffset("/to");
+        String description = line.substring(0, from).trim();
+        String startString = line.substring(from + FROM_OFFSET, to).trim();
+        String endString = line.substring(to + TO_OFFSET).trim();
+        LocalDateTime start = DateTimeCodec.parseDateTime(startString);
+        LocalDateTime end = DateTimeCodec.parseDateTime(endString);
         if (start.isAfter(end)) {
             throw new startAfterEndException();
         } else if (start.isBefore(LocalDateTime.now()) || end.isBefore(LocalDateTime.now())) {
@@ -175,60 +206,92 @@ public class TaskList {
             throw new IllegalEventException();
         } else {
             Event currEvent = new Event(description, startString, endString);
+            List<Task> conflicts = ConflictIndex.findConflicts(currEvent);
             tasks.add(currEvent);
+            indexTask(currEvent);
             Ui.addedTaskMessage(currEvent);
+            Ui.conflictWarningMessage(conflicts);
         }
     }
 
+    static void addRecurringEvent(String line, ArrayList<Task> tasks) throws IllegalEventException,
+            IllegalRecurrenceException {
+        addRecurringEvent(CommandLine.parse(line), tasks);
+    }
+
     /**
      * Adds a RecurringEvent to the list
-     * @param line input from user
+     * @param command input from user, split into words
      * @param tasks the array list of tasks
      * @throws IllegalEventException handles incorrect event format
+     * @throws IllegalRecurrenceException handles incorrect recurrence options
      */
-    static void addRecurringEvent(String line, ArrayList<Task> tasks) throws IllegalEventException{
-        String description = line.substring(4, line.indexOf("/from")).trim();
-        String start = line.substring(line.indexOf("/from") + FROM_OFFSET, line.indexOf("/to")).trim();
-        String end = line.substring(line.indexOf("/to") + TO_OFFSET, line.indexOf("/day")).trim();
-        DayOfWeek day = DayOfWeek.valueOf(line.substring(line.indexOf("/day") + DAY_OFFSET).trim());
-        DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
+    static void addRecurringEvent(CommandLine command, ArrayList<Task> tasks) throws IllegalEventException,
+            IllegalRecurrenceException {
+        String line = command.getLine();
+        int from = command.getFlagOffset("/from");
+        int to = command.getFlagOffset("/to");
+        int day = command.getFlagOffset("/day");
+        String description = line.substring(4, from).trim();
+        String start = line.substring(from + FROM_OFFSET, to).trim();
+        String end = line.substring(to + TO_OFFSET, day).trim();
+        Recurrence recurrence = Recurrence.parse(line.substring(day + DAY_OFFSET));
         //check whether start and end are in the correct format
-        LocalTime.parse(start, timeFormat);
-        LocalTime.parse(end, timeFormat);
+        DateTimeCodec.parseTime(start);
+        DateTimeCodec.parseTime(end);
         if (description.isBlank() || start.isBlank() || end.isBlank()) {
             throw new IllegalEventException();
         } else {
-            RecurringEvent currEvent = new RecurringEvent(description, start, end, day);
+            RecurringEvent currEvent = new RecurringEvent(description, start, end, recurrence);
+            List<Task> conflicts = ConflictIndex.findConflicts(currEvent);
             tasks.add(currEvent);
+            indexTask(currEvent);
             Ui.addedTaskMessage(currEvent);
+            Ui.conflictWarningMessage(conflicts);
         }
     }
 
+    static void addSchoolClass(String line, ClassSchedule classes) throws IllegalSchoolClassException,
+            startAfterEndException, expiredDateException, IllegalArgumentException, NullPointerException {
+        addSchoolClass(CommandLine.parse(line), classes);
+    }
+
     /**
-     * Adds a schoolClass to the list
+     * Adds a schoolClass to the list. The description, class name, day and times are cut at the
+     * /class, /day, /from and /to flags, so words that only start with a flag stay where they are.
      *
-     * @param line  The line of input from the user
-     * @param classes The priority queue of school classes
+     * @param command The line of input from the user, split into words
+     * @param classes The class schedule
      */
-    static void addSchoolClass(String line, PriorityQueue<SchoolClass> classes) throws IllegalSchoolClassException,
+    static void addSchoolClass(CommandLine command, ClassSchedule classes) throws IllegalSchoolClassException,
             startAfterEndException, expiredDateException, IllegalArgumentException, NullPointerException {
-        String description = line.substring(0, line.indexOf("/class")).trim();
-        String className = line.substring(line.indexOf("/class") + 6, line.indexOf("/day")).trim();
+        String line = command.getLine();
+        int classFlag = command.getFlagOffset("/class");
+        int dayFlag = command.getFlagOffset("/day");
+        int from = command.getFlagOffset("/from");
+        int to = command.getFlagOffset("/to");
+        String description = line.substring(0, classFlag).trim();
+        String className = line.substring(classFlag + CLASS_OFFSET, dayFlag).trim();
         try {
-            DayOfWeek day = DayOfWeek.valueOf(line.substring(line.indexOf("/day") + 4, line.indexOf("/from")).trim());
-            String startString = line.substring(line.indexOf("/from") + 5, line.indexOf("/to")).trim();
-            String endString = line.substring(line.indexOf("/to") + 3).trim();
-            DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
-            LocalTime start = LocalTime.parse(startString, timeFormat);
-            LocalTime end = LocalTime.parse(endString, timeFormat);
+            DayOfWeek day = DayOfWeek.valueOf(line.substring(dayFlag + DAY_OFFSET, from).trim());
+            String startString = line.substring(from + FROM_OFFSET, to).trim();
+            String endString = line.substring(to + TO_OFFSET).trim();
+            LocalTime start = DateTimeCodec.parseTime(startString);
+            LocalTime end = DateTimeCodec.parseTime(endString);
             if (start.isAfter(end)) {
                 throw new startAfterEndException();
             } else if (className.isBlank() || startString.isBlank() || endString.isBlank()) {
                 throw new IllegalSchoolClassException();
             } else {
                 SchoolClass currSchoolClass = new SchoolClass(className, description, day, startString, endString);
-                classes.add(currSchoolClass);
-                Ui.addedSchoolClassMessage(currSchoolClass, classes);
+                List<Task> conflicts = ConflictIndex.findConflicts(currSchoolClass);
+                if (classes.add(currSchoolClass)) {
+                    indexClass(currSchoolClass);
+                    Ui.addedSchoolClassMessage(currSchoolClass, classes);
+                    Ui.conflictWarningMessage(conflicts);
+                } else {
+                    Ui.duplicateSchoolClassMessage();
+                }
             }
         } catch (IllegalArgumentException e) {
             Ui.invalidDayMessage();
@@ -237,17 +300,24 @@ public class TaskList {
         }
     }
 
+    static void addDeadline(String line, ArrayList<Task> tasks) throws IllegalDeadlineException, expiredDateException {
+        addDeadline(CommandLine.parse(line), tasks);
+    }
+
     /**
-     * Adds a deadline to the list
+     * Adds a deadline to the list. The description is cut at the /by flag, so words that only start
+     * with it, such as /bytes, stay in the description.
      *
-     * @param line  The line of input from the user
+     * @param command The line of input from the user, split into words
      * @param tasks The array list of tasks
      */
-    static void addDeadline(String line, ArrayList<Task> tasks) throws IllegalDeadlineException, expiredDateException {
-        String description = line.substring(0, line.indexOf("/by")).trim();
-        String deadlineString = line.substring(line.indexOf("/by") + 3).trim();
-        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
-        LocalDateTime deadline = LocalDateTime.parse(deadlineString, dateFormat);
+    static void addDeadline(CommandLine command, ArrayList<Task> tasks) throws IllegalDeadlineException,
+            expiredDateException {
+        String line = command.getLine();
+        int by = command.getFlagOffset("/by");
+        String description = line.substring(0, by).trim();
+        String deadlineString = line.substring(by + BY_OFFSET).trim();
+        LocalDateTime deadline = DateTimeCodec.parseDateTime(deadlineString);
         //System.out.println(description.isBlank());
         if (description.isBlank() || deadlineString.isBlank()) {
             throw new IllegalDeadlineException();
@@ -256,29 +326,38 @@ public class TaskList {
         } else {
             Deadline currDeadline = new Deadline(description, deadlineString);
             tasks.add(currDeadline);
+            indexTask(currDeadline);
             Ui.addedTaskMessage(currDeadline);
         }
     }
 
 
+    static void addRecurringDeadline(String line, ArrayList<Task> tasks) throws IllegalDeadlineException,
+            IllegalRecurrenceException, IllegalArgumentException {
+        addRecurringDeadline(CommandLine.parse(line), tasks);
+    }
+
     /**
      * adds a recurringDeadline to the list
      *
-     * @param line the line of input from the user
+     * @param command the line of input from the user, split into words
      * @param tasks the array list of tasks
      */
-    static void addRecurringDeadline(String line, ArrayList<Task> tasks) throws IllegalDeadlineException,
-            IllegalArgumentException {
-        String description = line.substring(4, line.indexOf("/by")).trim();
-        String deadline = line.substring(line.indexOf("/by") + BY_OFFSET, line.indexOf("/day")).trim();
-        DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
-        LocalTime.parse(deadline, timeFormat);
-        DayOfWeek day = DayOfWeek.valueOf(line.substring(line.indexOf("/day") + DAY_OFFSET).trim());
+    static void addRecurringDeadline(CommandLine command, ArrayList<Task> tasks) throws IllegalDeadlineException,
+            IllegalRecurrenceException, IllegalArgumentException {
+        String line = command.getLine();
+        int by = command.getFlagOffset("/by");
+        int day = command.getFlagOffset("/day");
+        String description = line.substring(4, by).trim();
+        String deadline = line.substring(by + BY_OFFSET, day).trim();
+        DateTimeCodec.parseTime(deadline);
+        Recurrence recurrence = Recurrence.parse(line.substring(day + DAY_OFFSET));
         if (description.isBlank() || deadline.isBlank()) {
             throw new IllegalDeadlineException();
         } else {
-            RecurringDeadline currDeadline = new RecurringDeadline(description, deadline, day);
+            RecurringDeadline currDeadline = new RecurringDeadline(description, deadline, recurrence);
             tasks.add(currDeadline);
+            indexTask(currDeadline);
             Ui.addedTaskMessage(currDeadline);
         }
     }
@@ -296,7 +375,7 @@ public class TaskList {
             // Input task number exceeds the number of tasks in the list
             Ui.exceedTaskNumberMessage(taskNumber);
         } else {
-            tasks.get(taskNumber - 1).markAsDone();
+            setDone(tasks.get(taskNumber - 1), true);
             // Printing out marked as done message
             Ui.borderLine();
             System.out.println("\t Understood. I've marked this task as done:");
@@ -305,6 +384,64 @@ public class TaskList {
         }
     }
 
+    /**
+     * Sets the priority of several tasks at once
+     *
+     * @param tasks The array list of tasks
+     * @param selection The positions in the list of the tasks to change
+     * @param priority The new priority, from 1 to 3
+     */
+    static void setPriorities(ArrayList<Task> tasks, BitSet selection, String priority) {
+        for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+            changePriority(tasks.get(i), priority);
+        }
+        Ui.bulkPriorityMessage(selection.cardinality(), priority);
+    }
+
+    /**
+     * Changes the priority of a task in the list, keeping the priority index and task counts up to date
+     *
+     * @param task The task to change
+     * @param priority The new priority, from 1 to 3
+     */
+    static void changePriority(Task task, String priority) {
+        int oldPriority = task.getPriorityIndex();
+        TaskStats.remove(task);
+        task.setPriority(priority);
+        PriorityIndex.move(task, oldPriority);
+        TaskStats.add(task);
+    }
+
+    /**
+     * Marks several tasks as done or not done at once
+     *
+     * @param tasks The array list of tasks
+     * @param selection The positions in the list of the tasks to mark
+     * @param isDone Whether the tasks are done
+     */
+    static void markTasks(ArrayList<Task> tasks, BitSet selection, boolean isDone) {
+        for (int i = selection.nextSetBit(0); i >= 0; i = selection.nextSetBit(i + 1)) {
+            setDone(tasks.get(i), isDone);
+        }
+        Ui.bulkMarkMessage(selection.cardinality(), isDone);
+    }
+
+    /**
+     * Marks a task in the list as done or not done, keeping the task counts up to date
+     *
+     * @param task The task to mark
+     * @param isDone Whether the task is done
+     */
+    static void setDone(Task task, boolean isDone) {
+        TaskStats.remove(task);
+        if (isDone) {
+            task.markAsDone();
+        } else {
+            task.markAsNotDone();
+        }
+        TaskStats.add(task);
+    }
+
     /**
      * Marks a task as not done
      *
@@ -318,7 +455,7 @@ public class TaskList {
             // Input task number exceeds the number of tasks in the list
             Ui.exceedTaskNumberMessage(taskNumber);
         } else {
-            tasks.get(taskNumber - 1).markAsNotDone();
+            setDone(tasks.get(taskNumber - 1), false);
             // Printing out marked as not done message
             Ui.borderLine();
             System.out.println("\t Understood. I've marked this task as not done yet:");
@@ -328,44 +465,71 @@ public class TaskList {
     }
 
     /**
-     * edits the attributes of a specific task
+     * Asks the user what to change about a task, with the fields that its kind of task has
+     *
      * @param tasks The array list of tasks
      * @param words The array of words generated from the user input
+     * @return true if the question was asked, or false if the task does not exist
      */
-    static void editTask(ArrayList<Task> tasks, String[] words) throws expiredDateException,
-            startAfterEndException, EmptyDescriptionException {
+    static boolean askEdit(ArrayList<Task> tasks, String[] words) {
         int taskNumber = Integer.parseInt(words[1]);
         int taskCount = Task.getTaskCount();
-        DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
-        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
         if (taskNumber > taskCount || taskNumber <= 0) {
             Ui.exceedTaskNumberMessage(taskNumber);
-            return;
+            return false;
         }
         Task taskToEdit = tasks.get(taskNumber - 1);
         if (taskToEdit instanceof Todo) {
-            editTodo(taskToEdit);
+            Ui.editTodoMessage();
         } else if (taskToEdit instanceof Deadline) {
-            editDeadline(words, timeFormat, dateFormat, taskToEdit);
+            Ui.editDeadlineMessage();
         } else if (taskToEdit instanceof Event) {
-            editEvent(timeFormat, dateFormat, taskToEdit);
+            Ui.editEventMessage();
+        }
+        return true;
+    }
+
+    /**
+     * edits the attributes of a specific task
+     * @param tasks The array list of tasks
+     * @param words The array of words generated from the user input
+     * @param editLine The user's answer to the question asked by askEdit
+     */
+    static void editTask(ArrayList<Task> tasks, String[] words, String editLine) throws expiredDateException,
+            startAfterEndException, EmptyDescriptionException, IllegalRecurrenceException {
+        int taskNumber = Integer.parseInt(words[1]);
+        int taskCount = Task.getTaskCount();
+        if (taskNumber > taskCount || taskNumber <= 0) {
+            Ui.exceedTaskNumberMessage(taskNumber);
+            return;
+        }
+        Task taskToEdit = tasks.get(taskNumber - 1);
+        unindexTask(taskToEdit);
+        try {
+            if (taskToEdit instanceof Todo) {
+                editTodo(taskToEdit, editLine);
+            } else if (taskToEdit instanceof Deadline) {
+                editDeadline(words, taskToEdit, editLine);
+            } else if (taskToEdit instanceof Event) {
+                editEvent(taskToEdit, editLine);
+            }
+        } finally {
+            // Re-index even if the edit failed, since the task is still in the list
+            indexTask(taskToEdit);
         }
         Ui.printEditedTask(taskToEdit);
     }
 
     /**
      * edits an attribute of an event
-     * @param timeFormat time format for event
-     * @param dateFormat date format for event
      * @param taskToEdit the event to edit
+     * @param editLine the attribute to change and its new value
      * @throws EmptyDescriptionException if the new description is empty
      * @throws startAfterEndException if the start-end time is incorrect
      * @throws expiredDateException if the task is expired
      */
-    private static void editEvent(DateTimeFormatter timeFormat, DateTimeFormatter dateFormat, Task taskToEdit) throws
-            EmptyDescriptionException, startAfterEndException, expiredDateException {
-        Ui.editEventMessage();
-        String editLine = Ui.askForEditMessage().trim();
+    private static void editEvent(Task taskToEdit, String editLine) throws EmptyDescriptionException,
+            startAfterEndException, expiredDateException, IllegalRecurrenceException {
         String[] editWords = editLine.split(" ");
         if (taskToEdit instanceof RecurringEvent) {
             if (editWords.length > 1 && editWords[0].equals("/description")) {
@@ -376,21 +540,21 @@ public class TaskList {
                 taskToEdit.setDescription(newDescription);
             } else if (editWords.length > 1 && editWords[0].equals("/from")){
                 String start = editLine.substring(FROM_OFFSET).trim();
-                LocalTime.parse(start, timeFormat);
+                DateTimeCodec.parseTime(start);
                 ((RecurringEvent) taskToEdit).setStart(start);
             } else if (editWords.length > 1 && editWords[0].equals("/to")) {
                 String end = editLine.substring(TO_OFFSET).trim();
-                LocalTime.parse(end, timeFormat);
+                DateTimeCodec.parseTime(end);
                 ((RecurringEvent) taskToEdit).setEnd(end);
             } else if(editWords.length > 1 && editWords[0].equals("/day")) {
-                DayOfWeek day = DayOfWeek.valueOf(editLine.substring(DAY_OFFSET).trim());
-                ((RecurringEvent) taskToEdit).setDay(day);
+                Recurring recurringEvent = (RecurringEvent) taskToEdit;
+                recurringEvent.setRecurrence(parseRecurrence(recurringEvent, editLine.substring(DAY_OFFSET)));
             } else {
                 Ui.unknownCommandMessage();
             }
         } else {
-            LocalDateTime start = LocalDateTime.parse(((Event) taskToEdit).getStart(), dateFormat);
-            LocalDateTime end = LocalDateTime.parse(((Event) taskToEdit).getEnd(), dateFormat);
+            LocalDateTime start = DateTimeCodec.parseDateTime(((Event) taskToEdit).getStart());
+            LocalDateTime end = DateTimeCodec.parseDateTime(((Event) taskToEdit).getEnd());
             String newStartString = null;
             String newEndString = null;
             LocalDateTime newStart = null;
@@ -403,10 +567,10 @@ public class TaskList {
                 taskToEdit.setDescription(newDescription);
             } else if (editWords.length > 1 && editWords[0].equals("/from")){
                 newStartString = editLine.substring(FROM_OFFSET).trim();
-                newStart = LocalDateTime.parse(newStartString, dateFormat);
+                newStart = DateTimeCodec.parseDateTime(newStartString);
             } else if (editWords.length > 1 && editWords[0].equals("/to")) {
                 newEndString = editLine.substring(TO_OFFSET).trim();
-                newEnd= LocalDateTime.parse(newEndString, dateFormat);
+                newEnd= DateTimeCodec.parseDateTime(newEndString);
             } else {
                 Ui.unknownCommandMessage();
             }
@@ -434,16 +598,13 @@ public class TaskList {
      * edits an attribute of a stored deadline
      *
      * @param words input split into an array of string
-     * @param timeFormat time format for deadline
-     * @param dateFormat date format for deadline
      * @param taskToEdit the task to edit
+     * @param editLine the attribute to change and its new value
      * @throws EmptyDescriptionException if the new description is empty
      * @throws expiredDateException if the deadline has expired
      */
-    private static void editDeadline(String[] words, DateTimeFormatter timeFormat, DateTimeFormatter dateFormat,
-                                     Task taskToEdit) throws EmptyDescriptionException, expiredDateException {
-        Ui.editDeadlineMessage();
-        String editLine = Ui.askForEditMessage().trim();
+    private static void editDeadline(String[] words, Task taskToEdit, String editLine)
+            throws EmptyDescriptionException, expiredDateException, IllegalRecurrenceException {
         String[] editWords = editLine.split(" ");
         if (taskToEdit instanceof RecurringDeadline) {
             if (editWords.length > 1 && editWords[0].equals("/description")) {
@@ -454,11 +615,11 @@ public class TaskList {
                 taskToEdit.setDescription(newDescription);
             } else if (editWords.length > 1 && editWords[0].equals("/deadline")){
                 String deadline = editLine.substring(DEADLINE_OFFSET).trim();
-                LocalTime.parse(deadline, timeFormat);
+                DateTimeCodec.parseTime(deadline);
                 ((RecurringDeadline) taskToEdit).setDeadline(deadline);
             } else if (editWords.length > 1 && editWords[0].equals("/day")) {
-                DayOfWeek day = DayOfWeek.valueOf(editLine.substring(DAY_OFFSET).trim());
-                ((RecurringDeadline) taskToEdit).setDay(day);
+                Recurring recurringDeadline = (RecurringDeadline) taskToEdit;
+                recurringDeadline.setRecurrence(parseRecurrence(recurringDeadline, editLine.substring(DAY_OFFSET)));
             } else {
                 Ui.unknownCommandMessage();
             }
@@ -472,7 +633,7 @@ public class TaskList {
             } else if (editWords.length > 1 && editWords[0].equals("/deadline")) {
                 String deadlineString = editLine.substring(DEADLINE_OFFSET).trim();
                 System.out.println(deadlineString);
-                LocalDateTime deadline = LocalDateTime.parse(deadlineString, dateFormat);
+                LocalDateTime deadline = DateTimeCodec.parseDateTime(deadlineString);
                 if (deadline.isBefore(LocalDateTime.now())){
                     throw new expiredDateException();
                 } else {
@@ -487,11 +648,10 @@ public class TaskList {
     /**
      * edits the todd
      * @param taskToEdit the todo to edit
+     * @param editLine the new description
      * @throws EmptyDescriptionException empty description
      */
-    private static void editTodo(Task taskToEdit) throws EmptyDescriptionException {
-        Ui.editTodoMessage();
-        String editLine = Ui.askForEditMessage().trim();
+    private static void editTodo(Task taskToEdit, String editLine) throws EmptyDescriptionException {
         if (editLine.isBlank()) {
             throw new EmptyDescriptionException();
         }
@@ -499,14 +659,178 @@ public class TaskList {
     }
 
     /**
-     * tries editTask and handles exceptions
+     * Edits several attributes of a task given on the same line as the edit command, such as
+     * edit 12 /to 2026-11-01 1800 /description foo. Every new value is checked before any of them
+     * is applied, so either the task gets all the changes or it is left as it was.
+     *
+     * @param tasks The array list of tasks
+     * @param words The array of words generated from the user input
+     */
+    static void editTaskFields(ArrayList<Task> tasks, String[] words) throws expiredDateException,
+            startAfterEndException, EmptyDescriptionException, IllegalRecurrenceException {
+        int taskNumber = Integer.parseInt(words[1]);
+        int taskCount = Task.getTaskCount();
+        if (taskNumber > taskCount || taskNumber <= 0) {
+            Ui.exceedTaskNumberMessage(taskNumber);
+            return;
+        }
+        Task taskToEdit = tasks.get(taskNumber - 1);
+        Map<String, String> fields = parseEditFields(words);
+        if (fields == null || !getEditFields(taskToEdit).containsAll(fields.keySet())) {
+            Ui.unknownCommandMessage();
+            return;
+        }
+        checkEditFields(taskToEdit, fields);
+        unindexTask(taskToEdit);
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            setEditField(taskToEdit, field.getKey(), field.getValue());
+        }
+        indexTask(taskToEdit);
+        Ui.printEditedTask(taskToEdit);
+    }
+
+    /**
+     * Splits the words after the task number into the fields to change and their new values
+     *
+     * @param words The array of words generated from the user input
+     * @return The new value of each field in the order given, or null if a value is given without
+     *     a field or a field is given twice
+     */
+    private static Map<String, String> parseEditFields(String[] words) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        int fieldIndex = 2;
+        for (int i = 3; i <= words.length; i++) {
+            if (i < words.length && !EDIT_FIELDS.contains(words[i])) {
+                continue;
+            }
+            String field = words[fieldIndex];
+            String value = String.join(" ", Arrays.copyOfRange(words, fieldIndex + 1, i));
+            if (!EDIT_FIELDS.contains(field) || fields.put(field, value) != null) {
+                return null;
+            }
+            fieldIndex = i;
+        }
+        return fields;
+    }
+
+    private static Set<String> getEditFields(Task task) {
+        if (task instanceof RecurringDeadline) {
+            return Set.of("/description", "/deadline", "/day");
+        } else if (task instanceof Deadline) {
+            return Set.of("/description", "/deadline");
+        } else if (task instanceof RecurringEvent) {
+            return Set.of("/description", "/from", "/to", "/day");
+        } else if (task instanceof Event) {
+            return Set.of("/description", "/from", "/to");
+        } else {
+            return Set.of("/description");
+        }
+    }
+
+    /**
+     * Checks the new values of a task's fields the same way as the interactive edit, without changing the task
+     *
+     * @param task The task to edit
+     * @param fields The new value of each field
+     */
+    private static void checkEditFields(Task task, Map<String, String> fields) throws expiredDateException,
+            startAfterEndException, EmptyDescriptionException, IllegalRecurrenceException {
+        String description = fields.get("/description");
+        if (description != null && description.isBlank()) {
+            throw new EmptyDescriptionException();
+        }
+        if (fields.containsKey("/day")) {
+            parseRecurrence((Recurring) task, fields.get("/day"));
+        }
+        if (task instanceof RecurringDeadline || task instanceof RecurringEvent) {
+            for (String field : List.of("/deadline", "/from", "/to")) {
+                if (fields.containsKey(field)) {
+                    DateTimeCodec.parseTime(fields.get(field));
+                }
+            }
+        } else if (task instanceof Deadline && fields.containsKey("/deadline")) {
+            if (DateTimeCodec.parseDateTime(fields.get("/deadline")).isBefore(LocalDateTime.now())) {
+                throw new expiredDateException();
+            }
+        } else if (task instanceof Event && (fields.containsKey("/from") || fields.containsKey("/to"))) {
+            LocalDateTime start = DateTimeCodec.parseDateTime(fields.getOrDefault("/from", ((Event) task).getStart()));
+            LocalDateTime end = DateTimeCodec.parseDateTime(fields.getOrDefault("/to", ((Event) task).getEnd()));
+            if (start.isAfter(end)) {
+                throw new startAfterEndException();
+            } else if (start.isBefore(LocalDateTime.now()) || end.isBefore(LocalDateTime.now())) {
+                throw new expiredDateException();
+            }
+        }
+    }
+
+    private static void setEditField(Task task, String field, String value) throws IllegalRecurrenceException {
+        switch (field) {
+        case "/description":
+            task.setDescription(value);
+            break;
+        case "/deadline":
+            ((Deadline) task).setDeadline(value);
+            break;
+        case "/from":
+            ((Event) task).setStart(value);
+            break;
+        case "/to":
+            ((Event) task).setEnd(value);
+            break;
+        case "/day":
+            ((Recurring) task).setRecurrence(parseRecurrence((Recurring) task, value));
+            break;
+        default:
+            assert false : field;
+        }
+    }
+
+    /**
+     * Reads the new rule of a recurring task, written the same way as after /day when the task is added.
+     * A day of the week on its own moves the occurrences to that day and keeps the rest of the rule,
+     * while a day with options such as /every or /until replaces the whole rule.
+     *
+     * @param task The recurring deadline or event to edit
+     * @param rule The text following /day
+     * @return The new rule
+     * @throws IllegalRecurrenceException if an option of the rule is invalid
+     * @throws IllegalArgumentException if the day of the week is invalid
+     */
+    private static Recurrence parseRecurrence(Recurring task, String rule) throws IllegalRecurrenceException {
+        Recurrence recurrence = Recurrence.parse(rule);
+        return rule.contains("/") ? recurrence : task.getRecurrence().withDay(recurrence.getDay());
+    }
+
+    /**
+     * tries editTask and handles exceptions. The attributes to change can be given after the task number,
+     * otherwise the user is asked for them.
      * 
      * @param tasks The array list of tasks
      * @param words The array of words generated from the user input
      */
     static void tryEditTask(ArrayList<Task> tasks, String[] words) {
+        if (words.length > 2) {
+            tryEditTask(tasks, words, null);
+        } else if (askEdit(tasks, words)) {
+            tryEditTask(tasks, words, Ui.askForEditMessage());
+        }
+    }
+
+    /**
+     * tries editTask or editTaskFields and handles exceptions
+     *
+     * @param tasks The array list of tasks
+     * @param words The array of words generated from the user input
+     * @param editLine The user's answer to the question asked by askEdit, or null if the attributes
+     *     to change are given after the task number
+     */
+    static void tryEditTask(ArrayList<Task> tasks, String[] words, String editLine) {
         try {
-            editTask(tasks, words);
+            if (editLine == null) {
+                editTaskFields(tasks, words);
+            } else {
+                editTask(tasks, words, editLine.trim());
+            }
         } catch (DateTimeParseException e) {
             Ui.invalidDateTimeMessage();
         } catch (IllegalArgumentException e) {
@@ -517,6 +841,8 @@ public class TaskList {
             Ui.startAfterEndErrorMessage();
         } catch (EmptyDescriptionException e) {
             Ui.emptyDescriptionErrorMessage();
+        } catch (IllegalRecurrenceException e) {
+            Ui.recurrenceErrorMessage();
         }
     }
 
@@ -535,32 +861,59 @@ public class TaskList {
         } else {
             Task taskToDelete = tasks.get(taskNumber - 1);
             tasks.remove(taskNumber - 1);
+            unindexTask(taskToDelete);
             Task.decrementCount();
             Ui.deleteTaskMessage(taskToDelete);
         }
     }
 
     /**
-     * Deletes a SchoolClass from the priority queue
+     * Deletes several tasks from the list at once, moving the remaining tasks up in a single pass
+     *
+     * @param tasks The array list of tasks
+     * @param selection The positions in the list of the tasks to delete
+     */
+    static void deleteTasks(ArrayList<Task> tasks, BitSet selection) {
+        int keptCount = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (selection.get(i)) {
+                unindexTask(task);
+                Task.decrementCount();
+            } else {
+                tasks.set(keptCount++, task);
+            }
+        }
+        tasks.subList(keptCount, tasks.size()).clear();
+        Ui.bulkDeleteMessage(selection.cardinality());
+    }
+
+    /**
+     * Deletes a SchoolClass from the class schedule
      *
-     * @param classes The priority queue of SchoolClasses
-     * @param line The line of user input
+     * @param classes The class schedule
+     * @param command The line of user input, split into words
      * @throws IllegalArgumentException handle IllegalArgumentException
      * @throws NullPointerException handle NullPointerException
      * @throws StringIndexOutOfBoundsException handle StringIndexOutOfBoundsException
      */
-    static void deleteClass(PriorityQueue<SchoolClass> classes, String line) throws
+    static void deleteClass(ClassSchedule classes, CommandLine command) throws
             IllegalArgumentException, NullPointerException, StringIndexOutOfBoundsException{
+        String line = command.getLine();
+        int classFlag = command.getFlagOffset("/class");
+        int descriptionFlag = command.getFlagOffset("/description");
+        int dayFlag = command.getFlagOffset("/day");
+        int from = command.getFlagOffset("/from");
+        int to = command.getFlagOffset("/to");
         try {
-            // Buffer holds the string "remove class" and is redundant
-            String buffer = line.substring(0, line.indexOf("/class")).trim();
-            String className = line.substring(line.indexOf("/class") + 6, line.indexOf("/description")).trim();
-            String description = line.substring(line.indexOf("/description") + 12, line.indexOf("/day")).trim();
-            DayOfWeek day = DayOfWeek.valueOf(line.substring(line.indexOf("/day") + 4, line.indexOf("/from")).trim());
-            String startString = line.substring(line.indexOf("/from") + 5, line.indexOf("/to")).trim();
-            String endString = line.substring(line.indexOf("/to") + 3).trim();
+            String className = line.substring(classFlag + CLASS_OFFSET, descriptionFlag).trim();
+            String description = line.substring(descriptionFlag + DESCRIPTION_OFFSET, dayFlag).trim();
+            DayOfWeek day = DayOfWeek.valueOf(line.substring(dayFlag + DAY_OFFSET, from).trim());
+            String startString = line.substring(from + FROM_OFFSET, to).trim();
+            String endString = line.substring(to + TO_OFFSET).trim();
             SchoolClass toDelete = new SchoolClass(className, description, day, startString, endString);
             if (classes.remove(toDelete)) {
+                unindexClass(toDelete);
                 Ui.deleteClassMessage();
             } else {
                 Ui.unsuccessfulDeleteClassMessage();
@@ -575,22 +928,26 @@ public class TaskList {
     }
 
     /**
-     * Tries to delete a SchoolClass from the priority queue, and throws an error message
+     * Tries to delete a SchoolClass from the class schedule, and throws an error message
      * if unsuccessful. This method should be used instead of directly invoking
      * the deleteClass() method.
      *
-     * @param classes The priority queue of SchoolClasses
-     * @param line The line of user input
+     * @param classes The class schedule
+     * @param command The line of user input, split into words
      */
-    static void tryDeleteClass(PriorityQueue<SchoolClass> classes, String line) {
-        if (!line.contains("/class") || !line.contains("/description") || !line.contains("/day") ||
-                !line.contains("/from") || !line.contains("/to")) {
+    static void tryDeleteClass(ClassSchedule classes, CommandLine command) {
+        if (!command.hasFlag("/class") || !command.hasFlag("/description") || !command.hasFlag("/day") ||
+                !command.hasFlag("/from") || !command.hasFlag("/to")) {
             Ui.invalidRemoveClassMessage();
         } else {
-            deleteClass(classes, line);
+            deleteClass(classes, command);
         }
     }
 
+    static void tryDeleteClass(ClassSchedule classes, String line) {
+        tryDeleteClass(classes, CommandLine.parse(line));
+    }
+
     /**
      * Checks if the current day and time is past the day and end time of the SchoolClass.
      * If SchoolClass is over, mark as done, otherwise mark as not done.
@@ -607,8 +964,7 @@ public class TaskList {
         } else if (dayToday.getValue() < day.getValue()) { // day of week not passed
             currSchoolClass.markAsNotDone();
         } else { // same day of week
-            DateTimeFormatter timeFormat = DateTimeFormatter.ofPattern("HHmm");
-            LocalTime classEndTime = LocalTime.parse(endString, timeFormat);
+            LocalTime classEndTime = DateTimeCodec.parseTime(endString);
             LocalTime currTime = LocalTime.now();
             if (currTime.isAfter(classEndTime)) {
                 currSchoolClass.markAsDone();
@@ -619,100 +975,116 @@ public class TaskList {
     }
 
     /**
-     * Clears the task list and SchoolClass priority queue, and reloads from save file.
-     * This function is mainly used to update the done status of SchoolClasses in the schedule.
+     * Updates the done status of the SchoolClasses in the schedule to the current day and time.
+     * The schedule is updated in memory, so changes that have not been saved yet are kept.
+     *
+     * @param classes The class schedule
+     */
+    static void refresh(ClassSchedule classes) {
+        for (SchoolClass schoolClass : classes) {
+            checkClassOver(schoolClass.getDay(), schoolClass.getEnd(), schoolClass);
+        }
+    }
+
+    /**
+     * Registers a task that has just been added to the list with the task indexes
      *
-     * @param tasks The ArrayList of tasks
-     * @param classes The priority queue of SchoolClasses
+     * @param task The task that has been added
      */
-    static void refresh(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) {
-        tasks.clear();
-        Task.clearCount();
-        classes.clear();
-        Storage.tryLoad(tasks, classes);
+    static void indexTask(Task task) {
+        FuzzyIndex.add(task);
+        PriorityIndex.add(task);
+        ScheduleIndex.add(task);
+        ConflictIndex.add(task);
+        ExpiryIndex.add(task);
+        ReminderScheduler.add(task);
+        TaskStats.add(task);
     }
 
-    static void purge(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) {
+    /**
+     * Removes a task from the task indexes. Must be called before the task is changed or
+     * after it has been removed from the list.
+     *
+     * @param task The task to remove
+     */
+    static void unindexTask(Task task) {
+        FuzzyIndex.remove(task);
+        PriorityIndex.remove(task);
+        ScheduleIndex.remove(task);
+        ConflictIndex.remove(task);
+        ExpiryIndex.remove(task);
+        ReminderScheduler.remove(task);
+        TaskStats.remove(task);
+    }
+
+    /**
+     * Registers a class that has just been added to the schedule with the schedule indexes
+     *
+     * @param schoolClass The class that has been added
+     */
+    static void indexClass(SchoolClass schoolClass) {
+        ConflictIndex.addClass(schoolClass);
+    }
+
+    /**
+     * Removes a class from the schedule indexes after it has been removed from the schedule
+     *
+     * @param schoolClass The class that has been removed
+     */
+    static void unindexClass(SchoolClass schoolClass) {
+        ConflictIndex.removeClass(schoolClass);
+    }
+
+    /**
+     * Empties the task and schedule indexes, to be used whenever the whole task list
+     * and class schedule are cleared
+     */
+    static void clearIndexes() {
+        FuzzyIndex.clear();
+        PriorityIndex.clear();
+        ScheduleIndex.clear();
+        ConflictIndex.clear();
+        ExpiryIndex.clear();
+        ReminderScheduler.clear();
+        TaskStats.clear();
+    }
+
+    /**
+     * Lists the expired tasks and removes them all from the list after a confirmation.
+     * The expired tasks come from the expiry index, and are removed in a single pass over the list.
+     *
+     * @param tasks The array list of tasks
+     * @param classes The class schedule
+     */
+    static void purge(ArrayList<Task> tasks, ClassSchedule classes) {
+        if (askPurge(tasks)) {
+            purgeExpired(tasks, classes, Ui.isConfirmed(Ui.readLine()));
+        }
+    }
+
+    /**
+     * Lists the expired tasks and, if there are any, asks the user whether to remove them
+     *
+     * @param tasks The array list of tasks
+     * @return true if the question was asked
+     */
+    static boolean askPurge(ArrayList<Task> tasks) {
         Ui.borderLine();
         System.out.println("\t Displaying all expired tasks below...");
         System.out.println();
         if (tasks.size() > 0) {
-            int expiredCount = 0;
-            ArrayList<Task> expiredTasks = new ArrayList<>();
-            for (Task task : tasks) {
-                if (task instanceof Deadline && !(task instanceof RecurringDeadline)) {
-                    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
-                    String deadline = ((Deadline) task).getDeadline();
-                    Date d = null;
-                    Date n = new Date();
-                    try {
-                        d = format.parse(deadline);
-                    } catch (ParseException e) {
-                        e.printStackTrace();
-                    }
-                    assert d != null;
-                    long diff = d.getTime() - n.getTime();
-                    if (diff < 0) {
-                        expiredCount++;
-                        System.out.println(task);
-                        expiredTasks.add(task);
-                    }
-                } else if (task instanceof Event && !(task instanceof RecurringEvent)) {
-                    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
-                    String end = ((Event) task).getEnd();
-                    Date d = null;
-                    Date n = new Date();
-                    try {
-                        d = format.parse(end);
-                    } catch (ParseException e) {
-                        e.printStackTrace();
-                    }
-                    assert d != null;
-                    long diff = d.getTime() - n.getTime();
-                    if (diff < 0) {
-                        expiredCount++;
-                        System.out.println(task);
-                        expiredTasks.add(task);
-                    }
-                } else if (task instanceof SchoolClass) {
-                    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
-                    String end = ((SchoolClass) task).getEnd();
-                    Date d = null;
-                    Date n = new Date();
-                    try {
-                        d = format.parse(end);
-                    } catch (ParseException e) {
-                        e.printStackTrace();
-                    }
-                    assert d != null;
-                    long diff = d.getTime() - n.getTime();
-                    if (diff < 0) {
-                        expiredCount++;
-                        System.out.println(task);
-                        expiredTasks.add(task);
-                    }
-                }
+            Set<Task> expiredTasks = ExpiryIndex.getExpiredTasks();
+            int expiredCount = expiredTasks.size();
+            for (Task task : expiredTasks) {
+                System.out.println(task);
             }
             if (expiredCount > 0) {
                 Ui.borderLine();
                 System.out.println("\t Quack! A total of " + expiredCount + " tasks have expired!");
                 System.out.println("\t Should I remove these tasks from the pending list human?");
                 Ui.borderLine();
-                if (Ui.doubleCheck()) {
-                    for (Task expiredTask : expiredTasks) {
-                        tasks.removeIf(task -> task == expiredTask);
-                        Task.decrementCount();
-                    }
-                    Storage.trySave(tasks, classes);
-                    Ui.borderLine();
-                    System.out.println("\t Expired Tasks have been purged from the list!");
-                    System.out.println("\t I love purging things, human...");
-                    Ui.borderLine();
-                } else {
-                    Ui.borderLine();
-                    System.out.println("\t Quack! Expired tasks have not been purged.");
-                    Ui.borderLine();
-                }
+                Ui.doubleCheckMessage();
+                return true;
             } else {
                 System.out.println("\t Quack! No tasks have expired!");
                 Ui.borderLine();
@@ -721,6 +1093,36 @@ public class TaskList {
             System.out.println("\t Quack! No tasks currently pending!");
             Ui.borderLine();
         }
+        return false;
+    }
+
+    /**
+     * Removes the expired tasks if the user confirmed the question asked by askPurge. The tasks that
+     * have expired by the time the user answers are removed.
+     *
+     * @param tasks The array list of tasks
+     * @param classes The class schedule
+     * @param isConfirmed Whether the user confirmed the removal
+     */
+    static void purgeExpired(ArrayList<Task> tasks, ClassSchedule classes, boolean isConfirmed) {
+        if (isConfirmed) {
+            Set<Task> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+            toRemove.addAll(ExpiryIndex.getExpiredTasks());
+            tasks.removeIf(toRemove::contains);
+            for (Task expiredTask : toRemove) {
+                unindexTask(expiredTask);
+                Task.decrementCount();
+            }
+            Storage.trySave(tasks, classes);
+            Ui.borderLine();
+            System.out.println("\t Expired Tasks have been purged from the list!");
+            System.out.println("\t I love purging things, human...");
+            Ui.borderLine();
+        } else {
+            Ui.borderLine();
+            System.out.println("\t Quack! Expired tasks have not been purged.");
+            Ui.borderLine();
+        }
     }
 
     /**
@@ -730,13 +1132,40 @@ public class TaskList {
      * @param words The array of strings from user input
      */
     static void addNote(ArrayList<Task> tasks, String[] words){
+        if (askNote(tasks, words)) {
+            addNote(tasks, words, Ui.readLine());
+        }
+    }
+
+    /**
+     * Asks the user for the note to add to a task
+     *
+     * @param tasks The arraylist of tasks
+     * @param words The array of strings from user input
+     * @return true if the question was asked, or false if the task does not exist
+     */
+    static boolean askNote(ArrayList<Task> tasks, String[] words) {
         int index = Integer.parseInt(words[1]);
         if (index-1 < tasks.size() && index >= 1) {
             System.out.println("\t What note would you like to add to the following task?");
             System.out.println(tasks.get(index - 1).toString());
             Ui.borderLine();
-            Scanner userInput = new Scanner(System.in);
-            String noteToAdd = userInput.nextLine();
+            return true;
+        }
+        Ui.exceedTaskNumberMessage(index);
+        return false;
+    }
+
+    /**
+     * Adds the note typed by the user in answer to askNote
+     *
+     * @param tasks The arraylist of tasks
+     * @param words The array of strings from user input
+     * @param noteToAdd The note
+     */
+    static void addNote(ArrayList<Task> tasks, String[] words, String noteToAdd) {
+        int index = Integer.parseInt(words[1]);
+        if (index-1 < tasks.size() && index >= 1) {
             tasks.get(index - 1).addNotes(noteToAdd);
             System.out.println("\t The note has been added!");
             Ui.borderLine();
@@ -777,23 +1206,58 @@ public class TaskList {
      * @param words The array of strings from user input
      */
     static void editNote(ArrayList<Task> tasks, String[] words) {
+        if (askEditNote(tasks, words)) {
+            editNote(tasks, words, Ui.readLine());
+        }
+    }
+
+    /**
+     * Asks the user what to change a note to, showing the note as it is
+     *
+     * @param tasks The arraylist of tasks
+     * @param words The array of strings from user input
+     * @return true if the question was asked, or false if the task or note does not exist
+     */
+    static boolean askEditNote(ArrayList<Task> tasks, String[] words) {
         int index = Integer.parseInt(words[1]);
         int indexOfNoteToBeEdited = Integer.parseInt(words[2]);
-        Scanner userInput = new Scanner(System.in);
-        if (index-1 < tasks.size() && index >= 1) {
-            if (indexOfNoteToBeEdited-1 < tasks.get(index-1).numberOfNotes() && indexOfNoteToBeEdited >= 1) {
-                Ui.borderLine();
-                System.out.println("\t What would you like to change the note to? ");
-                System.out.println("\t" + "\t" + tasks.get(index - 1).getNote(indexOfNoteToBeEdited - 1));
-                String editedNote = userInput.nextLine();
-                tasks.get(index - 1).editNote(indexOfNoteToBeEdited - 1, editedNote);
-                System.out.println("\t" + "The specified note has been edited!");
-                Ui.borderLine();
-            } else {
-                Ui.exceedNoteNumberMessage(indexOfNoteToBeEdited);
-            }
-        } else {
+        if (!isExistingNote(tasks, index, indexOfNoteToBeEdited)) {
+            return false;
+        }
+        Ui.borderLine();
+        System.out.println("\t What would you like to change the note to? ");
+        System.out.println("\t" + "\t" + tasks.get(index - 1).getNote(indexOfNoteToBeEdited - 1));
+        return true;
+    }
+
+    /**
+     * Changes a note to the text typed by the user in answer to askEditNote
+     *
+     * @param tasks The arraylist of tasks
+     * @param words The array of strings from user input
+     * @param editedNote The new text of the note
+     */
+    static void editNote(ArrayList<Task> tasks, String[] words, String editedNote) {
+        int index = Integer.parseInt(words[1]);
+        int indexOfNoteToBeEdited = Integer.parseInt(words[2]);
+        if (isExistingNote(tasks, index, indexOfNoteToBeEdited)) {
+            tasks.get(index - 1).editNote(indexOfNoteToBeEdited - 1, editedNote);
+            System.out.println("\t" + "The specified note has been edited!");
+            Ui.borderLine();
+        }
+    }
+
+    /**
+     * Returns true if the task has a note with the given number, and prints which one is missing otherwise
+     */
+    private static boolean isExistingNote(ArrayList<Task> tasks, int index, int noteNumber) {
+        if (index-1 >= tasks.size() || index < 1) {
             Ui.exceedTaskNumberMessage(index);
+            return false;
+        } else if (noteNumber-1 >= tasks.get(index-1).numberOfNotes() || noteNumber < 1) {
+            Ui.exceedNoteNumberMessage(noteNumber);
+            return false;
         }
+        return true;
     }
 }
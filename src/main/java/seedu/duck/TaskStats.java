@@ -0,0 +1,251 @@
+package seedu.duck;
+
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurring;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+import seedu.duck.util.DateTimeCodec;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps counts of the tasks in the list by type, priority and done status, updated as tasks are
+ * added, changed and removed, so that the stats command does not have to go through the list.
+ * Overdue deadlines are fed in by the expiry index as they expire, and unfinished deadlines are
+ * counted per date so that the deadlines due this week are read from at most seven counters.
+ * Unfinished recurring deadlines are kept by the date of their next occurrence, and are moved on to
+ * the occurrence after once that date has passed.
+ */
+public class TaskStats {
+    private static int todoCount;
+    private static int deadlineCount;
+    private static int eventCount;
+    private static int recurringDeadlineCount;
+    private static int recurringEventCount;
+    private static int doneCount;
+    private static final int[] priorityCounts = new int[4];
+    private static final Set<Task> overdueDeadlines = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final Map<LocalDate, Integer> unfinishedDeadlinesByDate = new HashMap<>();
+    private static final TreeMap<LocalDate, Set<Task>> recurringDeadlinesByDate = new TreeMap<>();
+    private static final Map<Task, LocalDate> recurringDeadlineDates = new IdentityHashMap<>();
+
+    /**
+     * Counts a task that has just been added to the list, or has just been changed
+     *
+     * @param task The task that has been added
+     */
+    static void add(Task task) {
+        count(task, 1);
+        if (isUnfinishedDeadline(task) && ExpiryIndex.isExpired(task)) {
+            overdueDeadlines.add(task);
+        }
+    }
+
+    /**
+     * Stops counting a task. Must be called before the task is changed or after it has been
+     * removed from the list.
+     *
+     * @param task The task to stop counting
+     */
+    static void remove(Task task) {
+        count(task, -1);
+        overdueDeadlines.remove(task);
+    }
+
+    static void clear() {
+        todoCount = 0;
+        deadlineCount = 0;
+        eventCount = 0;
+        recurringDeadlineCount = 0;
+        recurringEventCount = 0;
+        doneCount = 0;
+        for (int i = 0; i < priorityCounts.length; i++) {
+            priorityCounts[i] = 0;
+        }
+        overdueDeadlines.clear();
+        unfinishedDeadlinesByDate.clear();
+        recurringDeadlinesByDate.clear();
+        recurringDeadlineDates.clear();
+    }
+
+    /**
+     * Counts a task that the expiry index has just found to have expired
+     *
+     * @param task The task that has expired
+     */
+    static void expire(Task task) {
+        if (isUnfinishedDeadline(task)) {
+            overdueDeadlines.add(task);
+        }
+    }
+
+    static int getTodoCount() {
+        return todoCount;
+    }
+
+    /**
+     * Returns the number of deadlines, including recurring deadlines
+     */
+    static int getDeadlineCount() {
+        return deadlineCount;
+    }
+
+    /**
+     * Returns the number of events, including recurring events
+     */
+    static int getEventCount() {
+        return eventCount;
+    }
+
+    static int getRecurringDeadlineCount() {
+        return recurringDeadlineCount;
+    }
+
+    static int getRecurringEventCount() {
+        return recurringEventCount;
+    }
+
+    static int getDoneCount() {
+        return doneCount;
+    }
+
+    static int getTaskCount() {
+        return todoCount + deadlineCount + eventCount;
+    }
+
+    /**
+     * Returns the number of tasks with a priority
+     *
+     * @param priority The priority from 1 to 3
+     */
+    static int getPriorityCount(int priority) {
+        return priority >= 1 && priority <= 3 ? priorityCounts[priority] : 0;
+    }
+
+    /**
+     * Returns the number of unfinished deadlines whose time has passed, moving the expiry index
+     * forward to the current minute first
+     */
+    static int getOverdueCount() {
+        ExpiryIndex.getExpiredTasks();
+        return overdueDeadlines.size();
+    }
+
+    /**
+     * Returns the number of unfinished deadlines due from today to the end of this week, on Sunday.
+     * Each recurring deadline is counted once if it falls in that time.
+     *
+     * @param today The current date
+     */
+    static int getDueThisWeekCount(LocalDate today) {
+        while (!recurringDeadlinesByDate.isEmpty() && recurringDeadlinesByDate.firstKey().isBefore(today)) {
+            for (Task task : recurringDeadlinesByDate.pollFirstEntry().getValue()) {
+                recurringDeadlineDates.remove(task);
+                addRecurringDeadline(task, today);
+            }
+        }
+        int count = 0;
+        LocalDate sunday = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        for (LocalDate date = today; !date.isAfter(sunday); date = date.plusDays(1)) {
+            count += unfinishedDeadlinesByDate.getOrDefault(date, 0);
+            count += recurringDeadlinesByDate.getOrDefault(date, Set.of()).size();
+        }
+        return count;
+    }
+
+    /**
+     * Adds or removes a task from all the counts it belongs to
+     *
+     * @param task The task to count
+     * @param delta 1 to add the task, or -1 to remove it
+     */
+    private static void count(Task task, int delta) {
+        if (task instanceof Todo) {
+            todoCount += delta;
+        } else if (task instanceof Deadline) {
+            deadlineCount += delta;
+            if (task instanceof Recurring) {
+                recurringDeadlineCount += delta;
+            }
+        } else if (task instanceof Event) {
+            eventCount += delta;
+            if (task instanceof Recurring) {
+                recurringEventCount += delta;
+            }
+        }
+        if (task.getPriorityIndex() >= 1 && task.getPriorityIndex() <= 3) {
+            priorityCounts[task.getPriorityIndex()] += delta;
+        }
+        if (isDone(task)) {
+            doneCount += delta;
+        } else if (task instanceof Deadline) {
+            countUnfinishedDeadline(task, delta);
+        }
+    }
+
+    private static void countUnfinishedDeadline(Task task, int delta) {
+        if (task instanceof Recurring) {
+            if (delta > 0) {
+                addRecurringDeadline(task, LocalDate.now());
+            } else {
+                removeRecurringDeadline(task);
+            }
+            return;
+        }
+        LocalDate date;
+        try {
+            date = DateTimeCodec.parseDateTime(((Deadline) task).getDeadline()).toLocalDate();
+        } catch (DateTimeException e) {
+            return;
+        }
+        // Dates with no deadlines left are removed so that the map only holds dates in use
+        unfinishedDeadlinesByDate.merge(date, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    /**
+     * Keeps a recurring deadline under the date of its first occurrence on or after a given date.
+     * A deadline with no occurrences left is not kept.
+     */
+    private static void addRecurringDeadline(Task task, LocalDate from) {
+        Optional<LocalDateTime> next = RecurrenceEngine.occurrences((Recurring) task, from.atStartOfDay(), null)
+                .map(RecurrenceEngine.Occurrence::getTime).findFirst();
+        if (next.isPresent()) {
+            LocalDate date = next.get().toLocalDate();
+            recurringDeadlinesByDate.computeIfAbsent(date, key -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(task);
+            recurringDeadlineDates.put(task, date);
+        }
+    }
+
+    private static void removeRecurringDeadline(Task task) {
+        LocalDate date = recurringDeadlineDates.remove(task);
+        if (date == null) {
+            return;
+        }
+        Set<Task> tasks = recurringDeadlinesByDate.get(date);
+        tasks.remove(task);
+        if (tasks.isEmpty()) {
+            recurringDeadlinesByDate.remove(date);
+        }
+    }
+
+    private static boolean isUnfinishedDeadline(Task task) {
+        return task instanceof Deadline && !(task instanceof Recurring) && !isDone(task);
+    }
+
+    private static boolean isDone(Task task) {
+        return task.getStatusIcon().equals("X");
+    }
+}
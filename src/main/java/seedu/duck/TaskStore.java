@@ -0,0 +1,137 @@
+package seedu.duck;
+
+import seedu.duck.task.Task;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The task list and class schedule, shared safely between threads.
+ * Changes are made one at a time under the write lock, and commands that read the list together with
+ * the indexes run under the read lock, so they see the list and the indexes as they were between two
+ * changes. Threads that only print the list take a snapshot instead, which does not lock at all
+ * unless the list has changed since the last snapshot was taken. A snapshot holds views of the tasks
+ * rather than the tasks themselves, so a task changed in place, such as by mark, does not change the
+ * snapshots taken before.
+ */
+public class TaskStore {
+    private final ArrayList<Task> tasks;
+    private final ClassSchedule classes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Changed only while holding the write lock, after the change has been made
+    private volatile long version;
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of());
+
+    /**
+     * Runs something with the task list and class schedule
+     */
+    interface Action {
+        void run(ArrayList<Task> tasks, ClassSchedule classes) throws IOException;
+    }
+
+    /**
+     * How a task looked when a snapshot was taken. A view cannot be changed.
+     */
+    static class TaskView {
+        private final String display;
+        private final boolean isDone;
+        private final List<String> notes;
+
+        private TaskView(Task task) {
+            this.display = task.toString();
+            this.isDone = task.getStatusIcon().equals("X");
+            this.notes = List.copyOf(task.getAdditionalNotes());
+        }
+
+        boolean isDone() {
+            return isDone;
+        }
+
+        List<String> getNotes() {
+            return notes;
+        }
+
+        @Override
+        public String toString() {
+            return display;
+        }
+    }
+
+    /**
+     * The task list as it was between two changes. Neither the list nor its views can be changed.
+     */
+    static class Snapshot {
+        private final long version;
+        private final List<TaskView> tasks;
+
+        private Snapshot(long version, List<TaskView> tasks) {
+            this.version = version;
+            this.tasks = tasks;
+        }
+
+        List<TaskView> getTasks() {
+            return tasks;
+        }
+    }
+
+    TaskStore(ArrayList<Task> tasks, ClassSchedule classes) {
+        this.tasks = tasks;
+        this.classes = classes;
+    }
+
+    /**
+     * Runs an action that only reads, at the same time as other readers but not during a change
+     */
+    void read(Action action) throws IOException {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            action.run(tasks, classes);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Runs an action that may change the tasks or classes, while no other action is running
+     */
+    void write(Action action) throws IOException {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            action.run(tasks, classes);
+        } finally {
+            version++;
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the tasks as they were after the last change. The same snapshot is returned until
+     * the next change, so the views are only made once per change.
+     */
+    Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current.version == version) {
+            return current;
+        }
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<TaskView> views = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                views.add(new TaskView(task));
+            }
+            current = new Snapshot(version, Collections.unmodifiableList(views));
+        } finally {
+            readLock.unlock();
+        }
+        snapshot = current;
+        return current;
+    }
+}
@@ -1,30 +1,78 @@
 package seedu.duck;
 
+import seedu.duck.exception.IllegalQueryException;
 import seedu.duck.task.Deadline;
 import seedu.duck.task.Event;
 import seedu.duck.task.RecurringDeadline;
 import seedu.duck.task.RecurringEvent;
 import seedu.duck.task.SchoolClass;
 import seedu.duck.task.Task;
+import seedu.duck.util.DateTimeCodec;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.time.DayOfWeek;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Date;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.PriorityQueue;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.function.Predicate;
 
 
 /**
  * Deals with interactions with the user
  */
 public class Ui {
+    static final int ALL_OCCURRENCES = Integer.MAX_VALUE;
+
+    private static final int INPUT_BUFFER_SIZE = 1 << 16;
+    private static final int OUTPUT_CHUNK_SIZE = 1 << 13;
+    private static final String[] PRIORITY_NAMES = {"", "low", "medium", "high"};
+
+    // Every command and answer to a prompt is read through this one scanner, so that none of
+    // the input buffered by it is lost to another reader
+    private static Scanner in = new Scanner(System.in);
+
+    /**
+     * Reads commands and answers to prompts from a stream instead of the keyboard
+     *
+     * @param input The stream to read from
+     */
+    static void setInput(InputStream input) {
+        in = new Scanner(new BufferedReader(new InputStreamReader(input), INPUT_BUFFER_SIZE));
+    }
+
+    static Scanner getInput() {
+        return in;
+    }
+
+    /**
+     * Reads the next line typed by the user
+     *
+     * @return The line, or an empty line if there is no more input
+     */
+    static String readLine() {
+        return readLine(in);
+    }
+
+    /**
+     * Reads the next line from the given input
+     *
+     * @param input The input to read from
+     * @return The line, or an empty line if there is no more input
+     */
+    static String readLine(Scanner input) {
+        // Show the question being answered before waiting for the answer
+        OutputSink.flush();
+        return input.hasNextLine() ? input.nextLine() : "";
+    }
+
     static void printDuck() {
         System.out.println("           ,-.\n" +
                 "       ,--' ~.).\n" +
@@ -80,35 +128,143 @@ public class Ui {
         System.out.println("\t " + quotes[index]);
     }
 
+    /**
+     * Writes the tasks between two positions in a list
+     */
+    private interface TaskWriter {
+        void write(int from, int to);
+    }
+
     /**
      * Prints out all currently stored tasks in the list
      *
      * @param tasks The array list of tasks
      */
-    static void list(ArrayList<Task> tasks) {
-        int taskCount = Task.getTaskCount();
+    static void list(List<Task> tasks) {
+        printList(tasks.size(), (from, to) -> writeTasks(tasks, from, to));
+    }
+
+    /**
+     * Prints out all the tasks in a snapshot of the list
+     *
+     * @param views The views of the tasks in the snapshot
+     */
+    static void listViews(List<TaskStore.TaskView> views) {
+        printList(views.size(), (from, to) -> writeViews(views, from, to));
+    }
+
+    /**
+     * Prints out one page of the tasks in the list. Only the tasks on that page are read.
+     *
+     * @param tasks The array list of tasks
+     * @param page The page to print, starting from 1
+     * @param pageSize The number of tasks on each page
+     */
+    static void listPage(List<Task> tasks, int page, int pageSize) {
+        printPage(tasks.size(), page, pageSize, (from, to) -> writeTasks(tasks, from, to));
+    }
+
+    /**
+     * Prints out one page of the tasks in a snapshot of the list
+     *
+     * @param views The views of the tasks in the snapshot
+     * @param page The page to print, starting from 1
+     * @param pageSize The number of tasks on each page
+     */
+    static void listViewsPage(List<TaskStore.TaskView> views, int page, int pageSize) {
+        printPage(views.size(), page, pageSize, (from, to) -> writeViews(views, from, to));
+    }
+
+    private static void printList(int taskCount, TaskWriter writer) {
         borderLine();
-        if(!tasks.isEmpty()) {
+        if(taskCount > 0) {
             System.out.println("\t Here are the tasks in your list:");
-            for (int i = 0; i < taskCount; i++) {
-                System.out.println("\t " + (i + 1) + "." + tasks.get(i));
-                if (!tasks.get(i).getAdditionalNotes().isEmpty()) {
-                    printList(tasks, i);
-                }
-            }
+            writer.write(0, taskCount);
         } else {
             System.out.println("\t There are no tasks in the list currently!");
         }
         borderLine();
     }
 
-    static void listClasses(PriorityQueue<SchoolClass> classes, ArrayList<Task> tasks) {
-        TaskList.refresh(tasks, classes);
-        Iterator<SchoolClass> iterator = classes.iterator();
+    private static void printPage(int taskCount, int page, int pageSize, TaskWriter writer) {
+        int pageCount = taskCount / pageSize + (taskCount % pageSize == 0 ? 0 : 1);
+        borderLine();
+        if (taskCount == 0) {
+            System.out.println("\t There are no tasks in the list currently!");
+        } else if (page > pageCount) {
+            System.out.println("\t There are only " + pageCount + " pages of " + pageSize + " tasks in your list.");
+        } else {
+            int from = (page - 1) * pageSize;
+            int to = Math.min(from + pageSize, taskCount);
+            System.out.println("\t Here are tasks " + (from + 1) + " to " + to + " of " + taskCount
+                    + " in your list (page " + page + " of " + pageCount + "):");
+            writer.write(from, to);
+        }
+        borderLine();
+    }
+
+    /**
+     * Writes the tasks between two positions in the list, and their notes, into the output sink,
+     * which is flushed once the whole response has been printed
+     *
+     * @param tasks The array list of tasks
+     * @param from The position of the first task to write, inclusive
+     * @param to The position of the last task to write, exclusive
+     */
+    private static void writeTasks(List<Task> tasks, int from, int to) {
+        if (JsonLines.isEnabled()) {
+            for (int i = from; i < to; i++) {
+                JsonLines.writeTask(i + 1, tasks.get(i), null);
+            }
+            return;
+        }
+        StringBuilder chunk = new StringBuilder(OUTPUT_CHUNK_SIZE);
+        for (int i = from; i < to; i++) {
+            Task task = tasks.get(i);
+            appendTask(chunk, i + 1, task.toString(), task.getAdditionalNotes());
+        }
+        System.out.print(chunk);
+    }
+
+    /**
+     * Writes the views between two positions in a snapshot, and their notes, into the output sink.
+     * Snapshots are only listed by the server, which always answers in text.
+     *
+     * @param views The views of the tasks in the snapshot
+     * @param from The position of the first view to write, inclusive
+     * @param to The position of the last view to write, exclusive
+     */
+    private static void writeViews(List<TaskStore.TaskView> views, int from, int to) {
+        StringBuilder chunk = new StringBuilder(OUTPUT_CHUNK_SIZE);
+        for (int i = from; i < to; i++) {
+            TaskStore.TaskView view = views.get(i);
+            appendTask(chunk, i + 1, view.toString(), view.getNotes());
+        }
+        System.out.print(chunk);
+    }
+
+    /**
+     * Appends the lines of one task to a chunk of the list, and prints the chunk once it is full.
+     * Lines are gathered into chunks, since each print into the sink encodes its text separately.
+     */
+    private static void appendTask(StringBuilder chunk, int number, String display, List<String> notes) {
+        String newLine = System.lineSeparator();
+        chunk.append("\t ").append(number).append('.').append(display).append(newLine);
+        for (int j = 0; j < notes.size(); j++) {
+            chunk.append("\t\t - ").append(j + 1).append(". ").append(notes.get(j)).append(newLine);
+        }
+        if (chunk.length() >= OUTPUT_CHUNK_SIZE) {
+            System.out.print(chunk);
+            chunk.setLength(0);
+        }
+    }
+
+    static void listClasses(ClassSchedule classes) {
+        TaskList.refresh(classes);
         borderLine();
         System.out.println("\t Here is your class schedule:\n");
-        while (iterator.hasNext()) {
-            System.out.println("\t" + iterator.next());
+        for (SchoolClass schoolClass : classes) {
+            System.out.println("\t" + schoolClass);
         }
         borderLine();
     }
@@ -116,75 +272,67 @@ public class Ui {
     /**
      * prints out all classes, deadlines and events happening today
      *
-     * @param tasks   array list of all tasks
-     * @param classes pq of all classes
+     * @param classes the class schedule
      */
-    static void listToday(ArrayList<Task> tasks, PriorityQueue<SchoolClass> classes) {
-        LocalDate today = LocalDate.now();
-        DayOfWeek dayToday = today.getDayOfWeek();
+    static void listToday(ClassSchedule classes) {
         borderLine();
         System.out.println("\t Here is your class schedule for today");
-        for (SchoolClass c : classes) {
-            if (c.getDay() == dayToday) {
-                System.out.println(c);
-            }
-        }
-        System.out.println();
-        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        String dateToday = dateFormat.format(today);
+        printDay(classes, LocalDate.now());
         System.out.println("\t Here are your tasks today");
-        for (Task task : tasks) {
-            if (task instanceof Deadline) {
-                listTodayDeadline(dayToday, dateToday, task);
-            } else if (task instanceof Event) {
-                listTodayEvent(dayToday, dateToday, task);
-            }
+        printDayTasks(LocalDate.now());
+        borderLine();
+    }
+
+    /**
+     * Prints out all classes, deadlines and events happening on the given date
+     *
+     * @param classes the class schedule
+     * @param dateString the date in yyyy-MM-dd format
+     */
+    static void tryListDay(ClassSchedule classes, String dateString) {
+        LocalDate date;
+        try {
+            date = LocalDate.parse(dateString);
+        } catch (DateTimeParseException e) {
+            invalidDateTimeMessage();
+            return;
         }
         borderLine();
+        System.out.println("\t Here is your class schedule for " + dateString + " (" + date.getDayOfWeek() + ")");
+        printDay(classes, date);
+        System.out.println("\t Here are your tasks on " + dateString);
+        printDayTasks(date);
+        borderLine();
     }
 
     /**
-     * checks if an event happens today and prints the task if yes
+     * prints the classes on the day of the week of the given date
      *
-     * @param dayToday the DayOfWeek today
-     * @param dateToday the date today
-     * @param task the task (event specifically) to be checked
+     * @param classes the class schedule
+     * @param date the date to print the classes of
      */
-    private static void listTodayEvent(DayOfWeek dayToday, String dateToday, Task task) {
-        if (task instanceof RecurringEvent) {
-            if (((RecurringEvent) task).getDay() == dayToday) {
-                System.out.println(task);
-            }
-        } else {
-            if (((Event) task).getStart().startsWith(dateToday)) {
-                System.out.println(task);
-            }
+    private static void printDay(ClassSchedule classes, LocalDate date) {
+        for (SchoolClass c : classes.getClasses(date.getDayOfWeek())) {
+            System.out.println(c);
         }
+        System.out.println();
     }
 
     /**
-     * checks if a deadline happens today and prints the task if yes
+     * prints the deadlines and events on the given date, including recurring ones
      *
-     * @param dayToday the DayOfWeek today
-     * @param dateToday the date today
-     * @param task the task (deadline specifically) to be checked
+     * @param date the date to print the tasks of
      */
-    private static void listTodayDeadline(DayOfWeek dayToday, String dateToday, Task task) {
-        if (task instanceof RecurringDeadline) {
-            if (((RecurringDeadline) task).getDay() == dayToday) {
-                System.out.println(task);
-            }
-        } else {
-            if (((Deadline) task).getDeadline().startsWith(dateToday)) {
-                System.out.println(task);
-            }
+    private static void printDayTasks(LocalDate date) {
+        for (Task task : ScheduleIndex.getTasks(date)) {
+            System.out.println(task);
         }
     }
 
     /**
      * Prints out all currently stored tasks in the list arranged by their priority from high, medium to low
      *
-     * @param tasks the list of tasks
+     * @param tasks The array list of tasks
      */
     static void printPriorityList(ArrayList<Task> tasks) {
         borderLine();
@@ -196,94 +344,56 @@ public class Ui {
     }
 
     /**
-     * Goes through the task list and prints out the tasks that are high in priority
-     *
-     * @param tasks the list of tasks
+     * Prints out the tasks that are high in priority
      */
     static void printHighPriority(ArrayList<Task> tasks) {
-        ArrayList<Integer> indexOfHighPriority = new ArrayList<>();
-        int taskCount = Task.getTaskCount();
-        for (int i = 0; i < taskCount; i++) {
-            if (tasks.get(i).returnPriority() == 3) {
-                indexOfHighPriority.add(i);
-            }
-        }
-        if (!indexOfHighPriority.isEmpty()) {
-            System.out.println("\t QUACK QUACK QUACK!!!");
-            System.out.println("\t You have " + indexOfHighPriority.size() + " tasks that are high in priority!");
-            for (int i = 0; i < indexOfHighPriority.size(); i++) {
-                System.out.println("\t" + (i + 1) + "." + tasks.get(indexOfHighPriority.get(i)));
-                if (!tasks.get(i).getAdditionalNotes().isEmpty()) {
-                    ArrayList<String> toBePrinted = tasks.get(i).getAdditionalNotes();
-                    for (int j = 0; j < toBePrinted.size(); j++) {
-                        System.out.println("\t" + "\t - " + (j + 1) + ". " + toBePrinted.get(j));
-                    }
-                }
-            }
-        } else {
-            System.out.println("\t There are no tasks that are high in priority!");
-        }
-        borderLine();
+        printPriority(tasks, 3, "\t QUACK QUACK QUACK!!!", "high");
     }
 
     /**
-     * Goes through the task list and prints out the tasks that are medium in priority
-     *
-     * @param tasks the list of tasks
+     * Prints out the tasks that are medium in priority
      */
     static void printMediumPriority(ArrayList<Task> tasks) {
-        ArrayList<Integer> indexOfMediumPriority = new ArrayList<>();
-        int taskCount = Task.getTaskCount();
-        for (int i = 0; i < taskCount; i++) {
-            if (tasks.get(i).returnPriority() == 2) {
-                indexOfMediumPriority.add(i);
-            }
-        }
-        if (!indexOfMediumPriority.isEmpty()) {
-            System.out.println("\t QUACK QUACK!!");
-            System.out.println("\t You have " + indexOfMediumPriority.size() + " tasks that are medium in priority!");
-            for (int i = 0; i < indexOfMediumPriority.size(); i++) {
-                System.out.println("\t" + (i + 1) + "." + tasks.get(indexOfMediumPriority.get(i)));
-                if (!tasks.get(i).getAdditionalNotes().isEmpty()) {
-                    ArrayList<String> toBePrinted = tasks.get(i).getAdditionalNotes();
-                    for (int j = 0; j < toBePrinted.size(); j++) {
-                        System.out.println("\t" + "\t - " + (j + 1) + ". " + toBePrinted.get(j));
-                    }
-                }
-            }
-        } else {
-            System.out.println("\t There are no tasks that are medium in priority!");
-        }
-        borderLine();
+        printPriority(tasks, 2, "\t QUACK QUACK!!", "medium");
     }
 
     /**
-     * Goes through the task list and prints out the tasks that are low in priority
-     *
-     * @param tasks the list of tasks
+     * Prints out the tasks that are low in priority
      */
     static void printLowPriority(ArrayList<Task> tasks) {
-        ArrayList<Integer> indexOfLowPriority = new ArrayList<>();
-        int taskCount = Task.getTaskCount();
-        for (int i = 0; i < taskCount; i++) {
-            if (tasks.get(i).returnPriority() == 1) {
-                indexOfLowPriority.add(i);
-            }
-        }
-        if (!indexOfLowPriority.isEmpty()) {
-            System.out.println("\t Quack!");
-            System.out.println("\t You have " + indexOfLowPriority.size() + " tasks that are low in priority!");
-            for (int i = 0; i < indexOfLowPriority.size(); i++) {
-                System.out.println("\t" + (i + 1) + "." + tasks.get(indexOfLowPriority.get(i)));
-                if (!tasks.get(i).getAdditionalNotes().isEmpty()) {
-                    ArrayList<String> toBePrinted = tasks.get(i).getAdditionalNotes();
-                    for (int j = 0; j < toBePrinted.size(); j++) {
-                        System.out.println("\t" + "\t - " + (j + 1) + ". " + toBePrinted.get(j));
-                    }
+        printPriority(tasks, 1, "\t Quack!", "low");
+    }
+
+    /**
+     * Prints out the tasks of one priority, along with their notes. Only the tasks
+     * with that priority are visited.
+     *
+     * @param tasks the array list of tasks
+     * @param priority the priority from 1 to 3
+     * @param quack the exclamation printed before the tasks
+     * @param level the name of the priority level
+     */
+    private static void printPriority(ArrayList<Task> tasks, int priority, String quack, String level) {
+        Set<Task> tasksWithPriority = PriorityIndex.getTasks(priority);
+        if (!tasksWithPriority.isEmpty()) {
+            System.out.println(quack);
+            System.out.println("\t You have " + tasksWithPriority.size() + " tasks that are " + level
+                    + " in priority!");
+            int count = 0;
+            for (Task task : tasksWithPriority) {
+                count++;
+                if (JsonLines.isEnabled()) {
+                    JsonLines.writeTask(QueryPlanner.indexOf(tasks, task) + 1, task, null);
+                    continue;
+                }
+                System.out.println("\t" + count + "." + task);
+                ArrayList<String> toBePrinted = task.getAdditionalNotes();
+                for (int j = 0; j < toBePrinted.size(); j++) {
+                    System.out.println("\t" + "\t - " + (j + 1) + ". " + toBePrinted.get(j));
                 }
             }
         } else {
-            System.out.println("\t There are no tasks that are low in priority!");
+            System.out.println("\t There are no tasks that are " + level + " in priority!");
         }
         borderLine();
     }
@@ -310,6 +420,20 @@ public class Ui {
         printFindResults(matchingResults, matchCount, matchingResultsIndex);
     }
 
+    /**
+     * Finds tasks in the list containing words that are close to the keywords input by the user,
+     * so that keywords with typos still match. The closest matches are printed first.
+     *
+     * @param tasks The array list of tasks
+     * @param keywords The keywords input by the user, without the leading ~
+     */
+    static void fuzzyFind(ArrayList<Task> tasks, String keywords) {
+        ArrayList<Task> matchingResults = new ArrayList<>();
+        ArrayList<Integer> matchingResultsIndex = new ArrayList<>();
+        FuzzyIndex.search(tasks, keywords, matchingResults, matchingResultsIndex);
+        printFindResults(matchingResults, matchingResults.size(), matchingResultsIndex);
+    }
+
 
     /**
      * Prints the results of the find command
@@ -338,12 +462,48 @@ public class Ui {
         borderLine();
         System.out.println("\t Here are the matching tasks in your list:");
         for (int i = 0; i < matchCount; i++) {
+            if (JsonLines.isEnabled()) {
+                JsonLines.writeTask(matchingResultsIndex.get(i), matchingResults.get(i), null);
+                continue;
+            }
             System.out.println("\t " + (i + 1) + "." + matchingResults.get(i) +
                     "   || The index of this item is " + matchingResultsIndex.get(i));
         }
         borderLine();
     }
 
+    /**
+     * Prints the tasks matching a query, and how they were found if asked to explain
+     *
+     * @param tasks The array list of tasks
+     * @param queryText The query typed by the user, without the query command
+     * @param isExplain Whether to print the plan used to find the tasks
+     */
+    static void tryQuery(ArrayList<Task> tasks, String queryText, boolean isExplain) {
+        Query query;
+        try {
+            query = Query.parse(queryText);
+        } catch (IllegalQueryException e) {
+            queryErrorMessage();
+            return;
+        }
+        QueryPlanner.Result result = QueryPlanner.run(tasks, query);
+        if (isExplain) {
+            borderLine();
+            System.out.println("\t Query: " + query);
+            for (int i = 0; i < result.getPlan().size(); i++) {
+                QueryPlanner.AccessPath path = result.getPlan().get(i);
+                System.out.println("\t Group " + (i + 1) + ": " + path.getDescription()
+                        + " (" + path.getEstimate() + " candidates)");
+            }
+            System.out.println("\t Examined " + result.getExaminedCount() + " of " + tasks.size()
+                    + " tasks, " + result.getTasks().size() + " matched.");
+            borderLine();
+        }
+        printFindResults(new ArrayList<>(result.getTasks()), result.getTasks().size(),
+                new ArrayList<>(result.getIndexes()));
+    }
+
     /**
      * Display upcoming deadline
      *
@@ -352,20 +512,20 @@ public class Ui {
     static void displayUpcomingDeadline(ArrayList<Task> tasks) {
         System.out.println("\t Here are the upcoming deadlines:  ");
         int count = 0;
+        LocalDateTime now = LocalDateTime.now();
+        StringBuilder line = new StringBuilder();
         for (Task t : tasks) {
             if (t instanceof Deadline && !(t instanceof RecurringDeadline)) {
-                SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
                 String deadline = ((Deadline) t).getDeadline();
-                Date d;
-                Date n = new Date();
                 try {
-                    d = format.parse(deadline);
-                    long diff = d.getTime() - n.getTime();
-                    String di = getTimeDiff(diff);
+                    LocalDateTime d = DateTimeCodec.parseDateTime(deadline);
                     String description = t.getDescription().replace("Deadlines", "");
-                    System.out.println("\t " + (count + 1) + "." + description + " (" + di + "before the deadline)");
+                    line.setLength(0);
+                    line.append("\t ").append(count + 1).append('.').append(description).append(" (");
+                    RelativeTime.append(line, now, d).append("before the deadline)");
+                    System.out.println(line);
                     count++;
-                } catch (ParseException e) {
+                } catch (DateTimeParseException e) {
                     e.printStackTrace();
                 }
             }
@@ -381,20 +541,20 @@ public class Ui {
     static void displayUpcomingEvent(ArrayList<Task> tasks) {
         System.out.println("\t Here are the upcoming events:  ");
         int count = 0;
+        LocalDateTime now = LocalDateTime.now();
+        StringBuilder line = new StringBuilder();
         for (Task t : tasks) {
             if (t instanceof Event && !(t instanceof RecurringEvent)) {
-                SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
                 String deadline = ((Event) t).getStart();
-                Date d;
-                Date n = new Date();
                 try {
-                    d = format.parse(deadline);
-                    long diff = d.getTime() - n.getTime();
-                    String di = getTimeDiff(diff);
+                    LocalDateTime d = DateTimeCodec.parseDateTime(deadline);
                     String description = t.getDescription().replace("Events", "");
-                    System.out.println("\t " + (count + 1) + "." + description + " (" + di + "before the event start)");
+                    line.setLength(0);
+                    line.append("\t ").append(count + 1).append('.').append(description).append(" (");
+                    RelativeTime.append(line, now, d).append("before the event start)");
+                    System.out.println(line);
                     count++;
-                } catch (ParseException e) {
+                } catch (DateTimeParseException e) {
                     e.printStackTrace();
                 }
             }
@@ -403,269 +563,157 @@ public class Ui {
     }
 
     /**
-     * Prints the list of tasks in x days in the future
+     * Prints the list of deadlines and events in x days in the future, including the
+     * occurrences of recurring tasks
      *
-     * @param tasks the array list of all the tasks
+     * @param tasks the array list of tasks
      * @param days  the required the number of days x from now onwards
+     * @param top  the largest number of tasks to print, or ALL_OCCURRENCES to print them all
      */
-    static void printUpcomingTasks(ArrayList<Task> tasks, String days) {
+    static void printUpcomingTasks(ArrayList<Task> tasks, String days, int top) {
         borderLine();
-        System.out.println("\t Here are your tasks in " + days + " days:");
-        int count = 0;
-        Date d;
-        Date n = new Date();
-        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
-        int requiredDays = Integer.parseInt(days);
-        for (Task t : tasks) {
-            String timeUntilTask = null;
-            if (t instanceof Deadline && !(t instanceof RecurringDeadline)) {
-                timeUntilTask = ((Deadline) t).getDeadline();
-            } else if (t instanceof Event && !(t instanceof RecurringEvent)) {
-                timeUntilTask = ((Event) t).getStart();
-            }
-            if (timeUntilTask != null) {
-                try {
-                    d = format.parse(timeUntilTask);
-                    long diff = d.getTime() - n.getTime();
-                    int di = getDayDiff(diff);
-                    if (di <= requiredDays) {
-                        count++;
-                        System.out.println("\t " + count + "." + t);
-                    }
-                } catch (ParseException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
+        System.out.println("\t Here are your " + describeTop(top, "tasks") + " in " + days + " days:");
+        printOccurrences(tasks, days, task -> true, top);
         borderLine();
     }
 
     /**
-     * Prints the list of events in x days in the future
+     * Prints the list of events in x days in the future, including the occurrences of recurring events
      *
-     * @param tasks the array list of all the tasks
+     * @param tasks the array list of tasks
      * @param days  the required the number of days x from now onwards
+     * @param top  the largest number of events to print, or ALL_OCCURRENCES to print them all
      */
-    static void printUpcomingEvents(ArrayList<Task> tasks, String days) {
+    static void printUpcomingEvents(ArrayList<Task> tasks, String days, int top) {
         borderLine();
-        System.out.println("\t Here are your events in " + days + " days:");
-        int count = 0;
-        Date d;
-        Date n = new Date();
-        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
-        boolean noEvent = true;
-        for (Task t : tasks) {
-            String timeUntilTask;
-            if (t instanceof Event && !(t instanceof RecurringEvent)) {
-                noEvent = false;
-                timeUntilTask = ((Event) t).getStart();
-                try {
-                    d = format.parse(timeUntilTask);
-                    long diff = d.getTime() - n.getTime();
-                    String di = getTimeDiff(diff);
-                    String[] diffSplit = di.split(" ");
-                    if (diffSplit.length >= 2 && ((diffSplit[1].contains("day") && Integer.parseInt(diffSplit[0])
-                            <= Integer.parseInt(days)) || diffSplit[1].contains("hour")
-                            || diffSplit[1].contains("minute"))) {
-                        count++;
-                        System.out.println("\t " + count + "." + t);
-                    }
-                } catch (ParseException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-        if (noEvent) {
+        System.out.println("\t Here are your " + describeTop(top, "events") + " in " + days + " days:");
+        if (printOccurrences(tasks, days, task -> task instanceof Event, top) == 0) {
             System.out.println("\t No Upcoming Events!");
         }
         borderLine();
     }
 
     /**
-     * Prints the list of deadlines in x days in the future
+     * Prints the list of deadlines in x days in the future, including the occurrences of recurring deadlines
      *
-     * @param tasks the array list of all the tasks
+     * @param tasks the array list of tasks
      * @param days  the required the number of days x from now onwards
+     * @param top  the largest number of deadlines to print, or ALL_OCCURRENCES to print them all
      */
-    static void printUpcomingDeadline(ArrayList<Task> tasks, String days) {
+    static void printUpcomingDeadline(ArrayList<Task> tasks, String days, int top) {
         borderLine();
-        System.out.println("\t Here are your deadlines in " + days + " days:");
-        int count = 0;
-        Date d;
-        Date n = new Date();
-        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HHmm");
-        boolean noDeadline = true;
-        for (Task t : tasks) {
-            String timeUntilTask;
-            if (t instanceof Deadline && !(t instanceof RecurringDeadline)) {
-                noDeadline = false;
-                timeUntilTask = ((Deadline) t).getDeadline();
-                try {
-                    d = format.parse(timeUntilTask);
-                    long diff = d.getTime() - n.getTime();
-                    String di = getTimeDiff(diff);
-                    String[] diffSplit = di.split(" ");
-                    if (diffSplit.length >= 2 && ((diffSplit[1].contains("day") && Integer.parseInt(diffSplit[0])
-                            <= Integer.parseInt(days)) || diffSplit[1].contains("hour")
-                            || diffSplit[1].contains("minute"))) {
-                        count++;
-                        System.out.println("\t " + count + "." + t);
-                    }
-                } catch (ParseException e) {
-                    e.printStackTrace();
-                }
-            }
-        }
-        if (noDeadline) {
+        System.out.println("\t Here are your " + describeTop(top, "deadlines") + " in " + days + " days:");
+        if (printOccurrences(tasks, days, task -> task instanceof Deadline, top) == 0) {
             System.out.println("\t No Upcoming Deadline!");
         }
         borderLine();
     }
 
+    private static String describeTop(int top, String kind) {
+        return top == ALL_OCCURRENCES ? kind : "next " + top + " " + kind;
+    }
+
     /**
-     * gets the day difference
-     * @param timeDifferenceMilliseconds time difference between now and the input time
-     * @return day difference
+     * Prints the soonest occurrences from now until the end of the x-th day from now, in time order.
+     * The occurrences are merged lazily in time order, so only as many are generated as are printed.
+     *
+     * @param tasks the array list of tasks
+     * @param days the required the number of days x from now onwards
+     * @param filter the tasks to print
+     * @param top the largest number of occurrences to print
+     * @return the number of occurrences printed
      */
-    static int getDayDiff(long timeDifferenceMilliseconds) {
-        return (int) (timeDifferenceMilliseconds / (secondsPerMinute * minutesPerHour * 1000 * hoursPerDay));
+    private static int printOccurrences(ArrayList<Task> tasks, String days, Predicate<Task> filter, int top) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime end = now.plusDays(Long.parseLong(days) + 1);
+        int[] count = new int[1];
+        RecurrenceEngine.between(now, end, filter).limit(top).forEach(occurrence -> {
+            count[0]++;
+            if (JsonLines.isEnabled()) {
+                Task task = occurrence.getTask();
+                JsonLines.writeTask(QueryPlanner.indexOf(tasks, task) + 1, task, occurrence.getTime());
+            } else {
+                System.out.println("\t " + count[0] + "." + formatOccurrence(occurrence));
+            }
+        });
+        return count[0];
     }
 
-    static final int secondsPerMinute = 60;
-    static final int minutesPerHour = 60;
-    static final int hoursPerDay = 24;
-    static final double daysPerMonth = 30.41666666;
-    static final int monthsPerYear = 12;
-
     /**
-     * Function help for calculating time difference
+     * Formats an occurrence, adding the date it happens on for recurring tasks
      *
-     * @param timeDifferenceMilliseconds time difference between now and deadline
-     * @return time difference in structured format
+     * @param occurrence the occurrence of a deadline or event
+     * @return the task, followed by the date for recurring tasks
      */
-    static String getTimeDiff(long timeDifferenceMilliseconds) {
-        long diffMinutes = timeDifferenceMilliseconds / (secondsPerMinute * 1000) % minutesPerHour;
-        long diffHours = timeDifferenceMilliseconds / (secondsPerMinute * minutesPerHour * 1000) % hoursPerDay;
-        long diffDays = (long) (timeDifferenceMilliseconds / (secondsPerMinute * minutesPerHour * 1000 * hoursPerDay) % daysPerMonth);
-        long diffMonths = (long) (timeDifferenceMilliseconds / (secondsPerMinute * minutesPerHour * 1000 * hoursPerDay * daysPerMonth)) % monthsPerYear;
-        long diffYears = (long) (timeDifferenceMilliseconds / ( secondsPerMinute * minutesPerHour * 1000 * hoursPerDay * daysPerMonth * monthsPerYear));
-        String result = "";
-        if (diffYears != 0) {
-            result += diffYears;
-            result += " year";
-            if (diffYears != 1) {
-                result += "s";
-            }
-            result += " ";
+    private static String formatOccurrence(RecurrenceEngine.Occurrence occurrence) {
+        if (occurrence.isRecurring()) {
+            return occurrence.getTask() + " (on " + occurrence.getTime().toLocalDate() + ")";
         }
-        if (diffMonths != 0) {
-            result += diffMonths;
-            result += " month";
-            if (diffMonths != 1) {
-                result += "s";
-            }
-            result += " ";
-        }
-        if (diffDays != 0) {
-            result += diffDays;
-            result += " day";
-            if (diffDays != 1) {
-                result += "s";
-            }
-            result += " ";
-        }
-        if (diffHours != 0) {
-            result += diffHours;
-            result += " hour";
-            if (diffHours != 1) {
-                result += "s";
-            }
-            result += " ";
-        }
-        if (diffMinutes != 0) {
-            result += diffMinutes;
-            result += " minute";
-            if (diffMinutes != 1) {
-                result += "s";
-            }
-            result += " ";
-        }
-        return result;
+        return occurrence.getTask().toString();
     }
 
     /**
      * Display Next Upcoming Class
      *
-     * @param classes the priority queue of all the classes
+     * @param classes the class schedule
      */
-    static void displayNextUpcomingClass(PriorityQueue<SchoolClass> classes) {
+    static void displayNextUpcomingClass(ClassSchedule classes) {
         borderLine();
-        ArrayList<SchoolClass> result = new ArrayList<>(classes);
+        LocalDateTime now = LocalDateTime.now();
+        SchoolClass nextClass = classes.getNextClass(now.getDayOfWeek(), now.toLocalTime());
         System.out.println("\t Here are your next upcoming class: ");
-        if (result.isEmpty()) {
+        if (nextClass == null) {
             System.out.println("\t No upcoming class!");
         } else {
-            for (SchoolClass c : result) {
-                if (c.getStatusIcon() != "X") {
-                    System.out.println("\t" + c);
-                }
-            }
+            System.out.println("\t" + nextClass);
         }
         borderLine();
     }
 
     /**
-     * Display Next Upcoming Event
-     *
-     * @param tasks the array list of all the tasks
+     * Display Next Upcoming Event, including the next occurrence of recurring events
      */
-    static void displayNextUpcomingEvent(ArrayList<Task> tasks) {
+    static void displayNextUpcomingEvent() {
         borderLine();
         System.out.println("\t Here are your next upcoming event: ");
-        for (int i = 0; i < tasks.size(); i++) {
-            if (tasks.get(i) instanceof Event && tasks.get(i).getStatusIcon() != "X") {
-                System.out.println("\t " + tasks.get(i));
-                break;
-            } else if (i == tasks.size() - 1) {
-                System.out.println("\t No upcoming event!");
-            }
-        }
+        printNextOccurrence(task -> task instanceof Event, "\t No upcoming event!");
         borderLine();
     }
 
     /**
-     * Display Next Upcoming Deadline
-     *
-     * @param tasks the array list of all the tasks
+     * Display Next Upcoming Deadline, including the next occurrence of recurring deadlines
      */
-    static void displayNextUpcomingDeadline(ArrayList<Task> tasks) {
+    static void displayNextUpcomingDeadline() {
         borderLine();
         System.out.println("\t Here are your next upcoming event: ");
-        for (int i = 0; i < tasks.size(); i++) {
-            if (tasks.get(i) instanceof Deadline && tasks.get(i).getStatusIcon() != "X") {
-                System.out.println("\t" + tasks.get(i));
-                break;
-            } else if (i == tasks.size() - 1) {
-                System.out.println("\t No upcoming deadline!");
-            }
-        }
+        printNextOccurrence(task -> task instanceof Deadline, "\t No upcoming deadline!");
         borderLine();
     }
 
     /**
-     * Display Next Upcoming Task
-     *
-     * @param tasks the array list of all the tasks
+     * Display Next Upcoming Task, which is the next deadline or event
      */
-    static void displayNextUpcomingTask(ArrayList<Task> tasks) {
+    static void displayNextUpcomingTask() {
         borderLine();
         System.out.println("\t Here are your next upcoming event: ");
-        if (tasks.isEmpty()) {
-            System.out.println("\t no upcoming task");
+        printNextOccurrence(task -> true, "\t no upcoming task");
+        borderLine();
+    }
+
+    /**
+     * Prints the first occurrence from now of a task that is not done yet
+     *
+     * @param filter the tasks to look at
+     * @param noneMessage the message to print if there is no such occurrence
+     */
+    private static void printNextOccurrence(Predicate<Task> filter, String noneMessage) {
+        RecurrenceEngine.Occurrence next = RecurrenceEngine.next(LocalDateTime.now(),
+                filter.and(task -> !task.getStatusIcon().equals("X")));
+        if (next == null) {
+            System.out.println(noneMessage);
         } else {
-            System.out.println("\t" + tasks.get(0));
+            System.out.println("\t" + formatOccurrence(next));
         }
-        borderLine();
     }
 
     /**
@@ -688,12 +736,21 @@ public class Ui {
     }
 
     static boolean doubleCheck() {
+        doubleCheckMessage();
+        return isConfirmed(readLine());
+    }
+
+    static void doubleCheckMessage() {
         System.out.println("\t THIS IS AN IRREVERSIBLE PROCESS. ARE YOU SURE? Y/N");
-        Scanner in = new Scanner(System.in);
-        String line;
-        line = in.nextLine();
-        line = line.toUpperCase();
-        return Objects.equals(line, "Y");
+    }
+
+    /**
+     * Returns true if the answer to doubleCheckMessage is yes
+     *
+     * @param answer The line typed by the user
+     */
+    static boolean isConfirmed(String answer) {
+        return Objects.equals(answer.toUpperCase(), "Y");
     }
 
     static void editTodoMessage() {
@@ -730,8 +787,7 @@ public class Ui {
     }
 
     static String askForEditMessage() {
-        Scanner in = new Scanner(System.in);
-        String line = in.nextLine();
+        String line = readLine();
         return line;
     }
 
@@ -739,9 +795,19 @@ public class Ui {
         borderLine();
         System.out.println("\t   Quack! Here are the commands you can give me:");
         System.out.println("\t - list: I'll list out all the tasks you have recorded.");
+        System.out.println("\t - list --page <page_number> --size <tasks_per_page>: I'll list out one page " +
+                "of your tasks.");
         System.out.println("\t - list <number_of_days>: I'll list out all the tasks in that number of days.");
+        System.out.println("\t - list/deadline/event <number_of_days> --top <count>: I'll only list out the " +
+                "soonest few.");
         System.out.println("\t - list_classes: I'll list out the classes you have on your schedule.");
         System.out.println("\t - list_today: I'll list out all the classes, deadlines and events you have today.");
+        System.out.println("\t - list_day <yyyy-MM-dd>: I'll list out all the classes, deadlines and events " +
+                "you have on that day.");
+        System.out.println("\t - conflicts <yyyy-MM-dd> <yyyy-MM-dd>: I'll list out the events and classes " +
+                "that overlap between those dates.");
+        System.out.println("\t - free <number_of_days> <minutes>: I'll list out the free time of at least " +
+                "that many minutes you have in that number of days.");
         System.out.println("\t - priority_list: " +
                 "I'll list out all the tasks you have recorded arranged by their priority.");
         System.out.println("\t - upcoming_class: I'll list out the next upcoming class.");
@@ -755,6 +821,11 @@ public class Ui {
         System.out.println("\t - mark <task_number>: I'll mark that task as done.");
         System.out.println("\t - unmark <task_number>: I'll mark that task as undone.");
         System.out.println("\t - delete <task_number>: I'll delete that task from your list.");
+        System.out.println("\t   mark, unmark, delete and priority also take several tasks at once, such as");
+        System.out.println("\t   'mark 3-40', 'delete done', 'unmark undone' or 'priority 1,5,9 3'.");
+        System.out.println("\t - edit <task_number>: I'll ask you which detail of that task to change.");
+        System.out.println("\t   Give the changes on the same line to skip the question, such as");
+        System.out.println("\t   'edit 12 /to 2026-11-01 1800 /description Project meeting'.");
         System.out.println("\t - remove /class <class_name> /description <description> " +
                 "/day <DAY_OF_WEEK> /from <HHmm> /to <HHmm>");
         System.out.println("\t   (/description can be followed by whitespace if the class has no description.");
@@ -763,9 +834,17 @@ public class Ui {
         System.out.println("\t - delete_notes <task_number> <note_number>: I'll delete the note to that task!");
         System.out.println("\t - edit_notes <task_number> <note_number>: I'll edit the note for that task!");
         System.out.println("\t - view_notes <task_number>: I'll print the additional notes for that task!");
+        System.out.println("\t - stats: I'll give you a summary of the tasks in your list.");
         System.out.println("\t - purge: I'll delete all expired tasks from your list after a confirmation.");
+        System.out.println("\t - remind <minutes>: I'll remind you the given number of minutes before each");
+        System.out.println("\t   deadline and event. Type 'remind off' to turn reminders off.");
         System.out.println("\t - find <keyword>: I'll find the tasks in your list that contain the keyword.");
         System.out.println("\t - The index of the item will also be displayed.");
+        System.out.println("\t - find ~<keyword>: I'll find the tasks with words close to the keyword, " +
+                "even if it has typos.");
+        System.out.println("\t - query <terms>: I'll find the tasks matching all the terms, such as");
+        System.out.println("\t   type:deadline priority>=2 due<7d done:no text:\"lab\". Terms can be negated");
+        System.out.println("\t   with - and combined with OR. Type 'query explain <terms>' to see how I searched.");
         System.out.println("\t - motivation: I'll print a random motivational quack for you!");
         System.out.println("\t - bye: I will shut down my program.\n");
         System.out.println("\t Here are the following ways to input tasks/classes:");
@@ -777,6 +856,10 @@ public class Ui {
         System.out.println("\t            (eg. Meeting /from 2023-03-15 2015 /to 2023-03-15 2215)");
         System.out.println("\t Recurring events: /re <description> /from <HHmm> /to <HHmm> /day <DAY_OF_WEEK>");
         System.out.println("\t            (eg. /re Meeting /from 2015 /to 2215 /day MONDAY)");
+        System.out.println("\t            Recurring deadlines and events can end with /every <NUMBER_OF_WEEKS>,");
+        System.out.println("\t            /until <yyyy-MM-dd> and /except <yyyy-MM-dd>,<yyyy-MM-dd>...");
+        System.out.println("\t            (eg. /re Meeting /from 2015 /to 2215 /day MONDAY /every 2 " +
+                "/until 2023-04-30)");
         System.out.println("\t Todo     : /todo <description>");
         System.out.println("\t            (eg. /todo Water the plants)");
         System.out.println("\t Classes  : <description> /class <class_name> /day <DAY_OF_WEEK> " +
@@ -793,13 +876,123 @@ public class Ui {
         borderLine();
     }
 
-    static void addedSchoolClassMessage(SchoolClass currentClass, PriorityQueue<SchoolClass> classes) {
+    static void addedSchoolClassMessage(SchoolClass currentClass, ClassSchedule classes) {
         borderLine();
         System.out.println("\t Alright, I have added this class: \n\t" + currentClass);
         System.out.println("\t You now have " + (classes.size()) + " classes in your schedule.");
         borderLine();
     }
 
+    /**
+     * Warns the user about the events and classes that a newly added item overlaps with
+     *
+     * @param conflicts The events and classes that overlap the new item
+     */
+    static void conflictWarningMessage(List<Task> conflicts) {
+        if (conflicts.isEmpty()) {
+            return;
+        }
+        borderLine();
+        System.out.println("\t Quack! Just so you know, this overlaps with:");
+        for (Task conflict : conflicts) {
+            System.out.println("\t" + conflict);
+        }
+        borderLine();
+    }
+
+    /**
+     * Prints every pair of overlapping events and classes between two dates
+     *
+     * @param fromString the first date to check, in yyyy-MM-dd format
+     * @param toString the last date to check, in yyyy-MM-dd format
+     */
+    static void tryListConflicts(String fromString, String toString) {
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(fromString);
+            to = LocalDate.parse(toString);
+        } catch (DateTimeParseException e) {
+            invalidDateTimeMessage();
+            return;
+        }
+        if (from.isAfter(to)) {
+            startAfterEndErrorMessage();
+            return;
+        }
+        List<ConflictIndex.Conflict> conflicts = ConflictIndex.listConflicts(from, to);
+        borderLine();
+        if (conflicts.isEmpty()) {
+            System.out.println("\t Quack! Nothing overlaps from " + fromString + " to " + toString + "!");
+        } else {
+            System.out.println("\t Here are the overlaps from " + fromString + " to " + toString + ":");
+            for (int i = 0; i < conflicts.size(); i++) {
+                ConflictIndex.Conflict conflict = conflicts.get(i);
+                System.out.println("\t " + (i + 1) + ". At " + DateTimeCodec.formatDateTime(conflict.getStart())
+                        + ":");
+                System.out.println("\t" + conflict.getFirst());
+                System.out.println("\t" + conflict.getSecond());
+            }
+        }
+        borderLine();
+    }
+
+    /**
+     * Prints the free windows of at least the given length between now and the given number of days from now
+     *
+     * @param days the number of days from now to look at
+     * @param minDuration the shortest free window to print, in minutes
+     */
+    static void printFreeSlots(String days, String minDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        List<long[]> freeSlots = FreeSlotFinder.findFreeSlots(now, now.plusDays(Integer.parseInt(days)),
+                Math.max(1, Integer.parseInt(minDuration)));
+        borderLine();
+        if (freeSlots.isEmpty()) {
+            System.out.println("\t Quack! You have no free time of at least " + minDuration
+                    + " minutes in the next " + days + " days.");
+        } else {
+            System.out.println("\t Here is your free time in the next " + days + " days:");
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < freeSlots.size(); i++) {
+                long[] slot = freeSlots.get(i);
+                LocalDateTime start = LocalDateTime.ofEpochSecond(slot[0] * 60, 0, ZoneOffset.UTC);
+                LocalDateTime end = LocalDateTime.ofEpochSecond(slot[1] * 60, 0, ZoneOffset.UTC);
+                line.setLength(0);
+                line.append("\t ").append(i + 1).append(". ").append(DateTimeCodec.formatDateTime(start))
+                        .append(" to ").append(DateTimeCodec.formatDateTime(end)).append(" (");
+                RelativeTime.append(line, start, end);
+                // Drop the space after the last part of the length
+                line.setCharAt(line.length() - 1, ')');
+                System.out.println(line);
+            }
+        }
+        borderLine();
+    }
+
+    /**
+     * Prints a summary of the tasks in the list, read from the task counts
+     */
+    static void printStats() {
+        if (JsonLines.isEnabled()) {
+            JsonLines.writeStats(LocalDate.now());
+            return;
+        }
+        borderLine();
+        System.out.println("\t Here is a summary of your " + TaskStats.getTaskCount() + " tasks:");
+        System.out.println("\t Todos: " + TaskStats.getTodoCount()
+                + ", Deadlines: " + TaskStats.getDeadlineCount() + " (" + TaskStats.getRecurringDeadlineCount()
+                + " recurring), Events: " + TaskStats.getEventCount() + " (" + TaskStats.getRecurringEventCount()
+                + " recurring)");
+        System.out.println("\t Priority: " + TaskStats.getPriorityCount(3) + " high, "
+                + TaskStats.getPriorityCount(2) + " medium, " + TaskStats.getPriorityCount(1) + " low");
+        System.out.println("\t Done: " + TaskStats.getDoneCount() + ", Not done: "
+                + (TaskStats.getTaskCount() - TaskStats.getDoneCount()));
+        System.out.println("\t Overdue deadlines: " + TaskStats.getOverdueCount());
+        System.out.println("\t Deadlines due this week: " + TaskStats.getDueThisWeekCount(LocalDate.now()));
+        borderLine();
+    }
+
     static void deleteTaskMessage(Task taskToDelete) {
         borderLine();
         System.out.println("\t Understood. I have removed this task:");
@@ -808,6 +1001,12 @@ public class Ui {
         borderLine();
     }
 
+    static void duplicateSchoolClassMessage() {
+        borderLine();
+        System.out.println("\t Quack! This class is already in your schedule.");
+        borderLine();
+    }
+
     static void deleteClassMessage() {
         borderLine();
         System.out.println("\t Class has been deleted successfully.");
@@ -820,12 +1019,96 @@ public class Ui {
         borderLine();
     }
 
+    /**
+     * Prints a reminder of a deadline or event
+     *
+     * @param task the deadline or event
+     * @param occurrence the time it is due or starts
+     */
+    static void reminderMessage(Task task, LocalDateTime occurrence) {
+        borderLine();
+        System.out.println("\t Quack! Reminder, this is coming up at "
+                + DateTimeCodec.formatDateTime(occurrence) + ":");
+        System.out.println("\t" + task);
+        borderLine();
+    }
+
+    static void reminderStatusMessage() {
+        borderLine();
+        long leadMinutes = ReminderScheduler.getLeadMinutes();
+        if (leadMinutes < 0) {
+            System.out.println("\t Reminders are off. Type 'remind <minutes>' to turn them back on.");
+        } else {
+            System.out.println("\t I'll remind you " + leadMinutes + " minutes before each deadline and event.");
+            System.out.println("\t There are " + ReminderScheduler.getPendingCount() + " reminders waiting.");
+        }
+        borderLine();
+    }
+
     static void refreshedMessage() {
         borderLine();
         System.out.println("\t Your task list and class schedule have been refreshed!");
         borderLine();
     }
 
+    static void bulkMarkMessage(int taskCount, boolean isDone) {
+        borderLine();
+        System.out.println("\t Understood. I've marked " + taskCount + " tasks as "
+                + (isDone ? "done." : "not done yet."));
+        borderLine();
+    }
+
+    static void bulkDeleteMessage(int taskCount) {
+        borderLine();
+        System.out.println("\t Understood. I have removed " + taskCount + " tasks.");
+        System.out.println("\t You now have " + Task.getTaskCount() + " tasks in your list.");
+        borderLine();
+    }
+
+    static void bulkPriorityMessage(int taskCount, String priority) {
+        borderLine();
+        System.out.println("\t Understood. I've set the priority of " + taskCount + " tasks to "
+                + PRIORITY_NAMES[Integer.parseInt(priority)] + " priority.");
+        borderLine();
+    }
+
+    static void usageMessage() {
+        System.err.println("Usage: java -jar duck.jar [--script <file>] [--quiet] [--format jsonl]");
+        System.err.println("       java -jar duck.jar --serve <port>");
+    }
+
+    static void scriptNotFoundMessage(String path) {
+        System.err.println("Quack! I can't open the script " + path + ".");
+    }
+
+    static void serverMessage(int port) {
+        System.out.println("Duck is serving your tasks at http://localhost:" + port + "/tasks");
+        System.out.println("Press Ctrl-C to stop.");
+    }
+
+    /**
+     * Reports how long a script took on the error stream, so that it is kept apart from the
+     * output of the commands
+     *
+     * @param commandCount The number of commands in the script
+     * @param elapsedNanos The time taken to run them, in nanoseconds
+     */
+    static void scriptSummaryMessage(int commandCount, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.err.printf("Ran %d commands in %.3f s (%.0f commands/sec)%n", commandCount, seconds,
+                seconds > 0 ? commandCount / seconds : 0);
+    }
+
+    /**
+     * Reports how many commands ran through the command queue, in how many batches, and how long
+     * they waited in the queue before running
+     */
+    static void queueSummaryMessage(CommandQueue queue) {
+        System.err.printf("Queue: %d commands in %d batches (largest %d), waited %.1f us on average, %.1f us at most%n",
+                queue.getCommandCount(), queue.getBatchCount(), queue.getMaxBatchSize(),
+                queue.getMeanWaitNanos() / 1e3, queue.getMaxWaitNanos() / 1e3);
+    }
+
     static void exceedTaskNumberMessage(int taskNumber) {
         borderLine();
         System.out.println("\t Task " + taskNumber + " does not exist.");
@@ -890,6 +1173,22 @@ public class Ui {
         borderLine();
     }
 
+    static void recurrenceErrorMessage() {
+        borderLine();
+        System.out.println("\t Error. Recurring tasks can only be followed by /every <NUMBER_OF_WEEKS>, "
+                + "/starting <yyyy-MM-dd>,");
+        System.out.println("\t /until <yyyy-MM-dd> and /except <yyyy-MM-dd>,<yyyy-MM-dd>...");
+        borderLine();
+    }
+
+    static void queryErrorMessage() {
+        borderLine();
+        System.out.println("\t Error. Queries are made of terms like type:deadline priority>=2 due<7d "
+                + "done:no text:\"lab\"");
+        System.out.println("\t Put - before a term to negate it and OR between terms to match either side.");
+        borderLine();
+    }
+
     static void invalidDayMessage() {
         borderLine();
         System.out.println("\t Error. Please enter a valid day of week in all capital letters (Eg. MONDAY).");
@@ -970,19 +1269,6 @@ public class Ui {
         }
     }
 
-    /**
-     * Prints the lists of notes under the specified tasks
-     *
-     * @param tasks The arraylist of tasks
-     * @param index The index of the task whose notes are to be printed
-     */
-    static void printList(ArrayList<Task> tasks, int index) {
-        ArrayList<String> toBePrinted = tasks.get(index).getAdditionalNotes();
-        for (int j = 0; j < toBePrinted.size(); j++) {
-            System.out.println("\t" + "\t - " + (j + 1) + ". " + toBePrinted.get(j));
-        }
-    }
-
     /**
      * Prints the exiting message when closing the program
      */
@@ -0,0 +1,5 @@
+package seedu.duck.exception;
+
+public class IllegalRecurrenceException extends Exception {
+
+}
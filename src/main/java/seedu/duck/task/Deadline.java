@@ -10,6 +10,7 @@ public class Deadline extends Task {
 
     public void setDeadline(String deadline) {
         by = deadline;
+        invalidateDisplay();
     }
 
     public String getDeadline() {
@@ -22,7 +23,7 @@ public class Deadline extends Task {
     }
 
     @Override
-    public String toString() {
-        return "\t [D]" + super.toString() + " (by: " + by + ")" + " (" + getPriority() + ")";
+    protected String render() {
+        return "\t [D]" + super.render() + " (by: " + by + ")" + " (" + getPriority() + ")";
     }
 }
@@ -16,6 +16,7 @@ public class Event extends Task {
 
     public void setStart(String start) {
         this.start = start;
+        invalidateDisplay();
     }
 
     public String getEnd() {
@@ -24,6 +25,7 @@ public class Event extends Task {
 
     public void setEnd(String end) {
         this.end = end;
+        invalidateDisplay();
     }
 
     @Override
@@ -33,8 +35,8 @@ public class Event extends Task {
     }
 
     @Override
-    public String toString() {
-        return "\t [E]" + super.toString() + " (from: " + start
+    protected String render() {
+        return "\t [E]" + super.render() + " (from: " + start
                 + " to: " + end + ")" + " (" + getPriority() + ")";
     }
 }
@@ -0,0 +1,256 @@
+package seedu.duck.task;
+
+import seedu.duck.exception.IllegalRecurrenceException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The rule a recurring task repeats by: a day of the week, repeated every given number
+ * of weeks from a starting date, optionally until an end date and skipping some dates.
+ * Occurrences are generated lazily, so a rule without an end date can be queried over
+ * any range without building the whole series.
+ */
+public class Recurrence {
+    private final DayOfWeek day;
+    private final int intervalWeeks;
+    private final LocalDate starting;
+    private final LocalDate until;
+    private final NavigableSet<LocalDate> exceptions;
+
+    /**
+     * Creates a rule that repeats on the given day every week, forever
+     *
+     * @param day The day of the week
+     */
+    public Recurrence(DayOfWeek day) {
+        this(day, 1, null, null, new TreeSet<>());
+    }
+
+    /**
+     * Creates a rule that repeats on the given day
+     *
+     * @param day The day of the week
+     * @param intervalWeeks The number of weeks between occurrences
+     * @param starting The first week of the series, or null if it repeats every week from any week
+     * @param until The last date an occurrence may fall on, or null if it never ends
+     * @param exceptions The dates that are skipped
+     */
+    public Recurrence(DayOfWeek day, int intervalWeeks, LocalDate starting, LocalDate until,
+                      NavigableSet<LocalDate> exceptions) {
+        this.day = day;
+        this.intervalWeeks = intervalWeeks;
+        // The series is counted from the first matching day on or after the starting date
+        this.starting = starting == null ? null : starting.with(TemporalAdjusters.nextOrSame(day));
+        this.until = until;
+        this.exceptions = Collections.unmodifiableNavigableSet(new TreeSet<>(exceptions));
+    }
+
+    /**
+     * Reads a rule written as {@code <DAY_OF_WEEK> [/every <N>] [/starting <yyyy-MM-dd>]
+     * [/until <yyyy-MM-dd>] [/except <yyyy-MM-dd>,<yyyy-MM-dd>...]}. A rule repeating every
+     * few weeks without a starting date starts from the current week.
+     *
+     * @param rule The text following /day
+     * @return The rule
+     * @throws IllegalRecurrenceException if an option is unknown, a date is not a valid yyyy-MM-dd date
+     *     or the number of weeks is not positive
+     * @throws IllegalArgumentException if the day of the week is invalid
+     */
+    public static Recurrence parse(String rule) throws IllegalRecurrenceException {
+        String[] parts = rule.trim().split("\\s+(?=/)");
+        DayOfWeek day = DayOfWeek.valueOf(parts[0].trim());
+        int intervalWeeks = 1;
+        LocalDate starting = null;
+        LocalDate until = null;
+        NavigableSet<LocalDate> exceptions = new TreeSet<>();
+        for (int i = 1; i < parts.length; i++) {
+            String[] option = parts[i].split("\\s+", 2);
+            String value = option.length > 1 ? option[1].trim() : "";
+            switch (option[0]) {
+            case "/every":
+                try {
+                    intervalWeeks = Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    throw new IllegalRecurrenceException();
+                }
+                break;
+            case "/starting":
+                starting = parseDate(value);
+                break;
+            case "/until":
+                until = parseDate(value);
+                break;
+            case "/except":
+                for (String date : value.split("\\s*,\\s*")) {
+                    exceptions.add(parseDate(date));
+                }
+                break;
+            default:
+                throw new IllegalRecurrenceException();
+            }
+        }
+        if (intervalWeeks < 1) {
+            throw new IllegalRecurrenceException();
+        }
+        if (intervalWeeks > 1 && starting == null) {
+            starting = LocalDate.now();
+        }
+        return new Recurrence(day, intervalWeeks, starting, until, exceptions);
+    }
+
+    private static LocalDate parseDate(String text) throws IllegalRecurrenceException {
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalRecurrenceException();
+        }
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public int getIntervalWeeks() {
+        return intervalWeeks;
+    }
+
+    public LocalDate getUntil() {
+        return until;
+    }
+
+    /**
+     * Returns the same rule on another day of the week, keeping the starting week
+     *
+     * @param newDay The new day of the week
+     * @return The rule on the new day
+     */
+    public Recurrence withDay(DayOfWeek newDay) {
+        LocalDate newStarting = starting == null ? null
+                : starting.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return new Recurrence(newDay, intervalWeeks, newStarting, until, exceptions);
+    }
+
+    /**
+     * Returns true if the rule repeats every week without end or exceptions,
+     * so that its occurrences follow a fixed weekly pattern
+     */
+    public boolean isEveryWeek() {
+        return intervalWeeks == 1 && until == null && exceptions.isEmpty();
+    }
+
+    /**
+     * Returns the date from which the occurrences keep to the same pattern, which is after the starting
+     * date and the last skipped date
+     *
+     * @return The date, or null if the rule has no starting date and skips no dates
+     */
+    public LocalDate getRegularFrom() {
+        LocalDate afterExceptions = exceptions.isEmpty() ? null : exceptions.last().plusDays(1);
+        if (starting != null && (afterExceptions == null || starting.isAfter(afterExceptions))) {
+            return starting;
+        }
+        return afterExceptions;
+    }
+
+    /**
+     * Returns true if there are no occurrences on or after the given date
+     *
+     * @param date The date to check
+     */
+    public boolean hasEndedBefore(LocalDate date) {
+        return until != null && until.isBefore(date);
+    }
+
+    /**
+     * Returns true if there is an occurrence on the given date
+     *
+     * @param date The date to check
+     */
+    public boolean occursOn(LocalDate date) {
+        if (date.getDayOfWeek() != day || exceptions.contains(date) || hasEndedBefore(date)) {
+            return false;
+        }
+        if (starting == null) {
+            return true;
+        }
+        long weeks = ChronoUnit.WEEKS.between(starting, date);
+        return !date.isBefore(starting) && weeks % intervalWeeks == 0;
+    }
+
+    /**
+     * Generates the dates of the occurrences between two dates, in order. The dates are
+     * produced one at a time as the stream is consumed.
+     *
+     * @param from The first date, inclusive
+     * @param to The last date, inclusive
+     * @return The dates of the occurrences
+     */
+    public Stream<LocalDate> occurrences(LocalDate from, LocalDate to) {
+        LocalDate last = until != null && until.isBefore(to) ? until : to;
+        LocalDate first = from.with(TemporalAdjusters.nextOrSame(day));
+        if (starting != null) {
+            if (first.isBefore(starting)) {
+                first = starting;
+            } else {
+                long weeksPastStart = ChronoUnit.WEEKS.between(starting, first) % intervalWeeks;
+                if (weeksPastStart != 0) {
+                    first = first.plusWeeks(intervalWeeks - weeksPastStart);
+                }
+            }
+        }
+        return Stream.iterate(first, date -> !date.isAfter(last), date -> date.plusWeeks(intervalWeeks))
+                .filter(date -> !exceptions.contains(date));
+    }
+
+    /**
+     * Returns the rule in the format read by {@link #parse(String)}
+     */
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder(day.toString());
+        if (intervalWeeks > 1) {
+            rule.append(" /every ").append(intervalWeeks);
+        }
+        if (starting != null) {
+            rule.append(" /starting ").append(starting);
+        }
+        if (until != null) {
+            rule.append(" /until ").append(until);
+        }
+        if (!exceptions.isEmpty()) {
+            rule.append(" /except ").append(exceptions.stream().map(LocalDate::toString)
+                    .collect(Collectors.joining(",")));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * Describes the rule for display, eg. "every 2 weeks on MONDAY until 2023-04-30"
+     *
+     * @return The description of the rule
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder("every ");
+        if (intervalWeeks > 1) {
+            description.append(intervalWeeks).append(" weeks on ");
+        }
+        description.append(day);
+        if (until != null) {
+            description.append(" until ").append(until);
+        }
+        if (!exceptions.isEmpty()) {
+            description.append(" except ").append(exceptions.size() == 1 ? exceptions.first()
+                    : exceptions.size() + " dates");
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.duck.task;
+
+/**
+ * A task that repeats according to a {@link Recurrence} instead of happening on a single date
+ */
+public interface Recurring {
+    Recurrence getRecurrence();
+
+    void setRecurrence(Recurrence recurrence);
+
+    /**
+     * Returns the time of day of each occurrence, in HHmm format
+     */
+    String getTimeOfDay();
+}
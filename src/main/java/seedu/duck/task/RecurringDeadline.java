@@ -1,31 +1,52 @@
 package seedu.duck.task;
 
 import java.time.DayOfWeek;
-public class RecurringDeadline extends Deadline{
-    private DayOfWeek day;
+public class RecurringDeadline extends Deadline implements Recurring {
+    private Recurrence recurrence;
 
     public RecurringDeadline(String description, String by, DayOfWeek day) {
+        this(description, by, new Recurrence(day));
+    }
+
+    public RecurringDeadline(String description, String by, Recurrence recurrence) {
         super(description, by);
-        this.day = day;
+        this.recurrence = recurrence;
     }
 
     public DayOfWeek getDay() {
-        return this.day;
+        return recurrence.getDay();
     }
 
     public void setDay(DayOfWeek day) {
-        this.day = day;
+        recurrence = recurrence.withDay(day);
+        invalidateDisplay();
+    }
+
+    @Override
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    @Override
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        invalidateDisplay();
+    }
+
+    @Override
+    public String getTimeOfDay() {
+        return getDeadline();
     }
 
     @Override
     public String toSaveString() {
         return getDoneConditionString() + " " + getDescription() + " /by " + getDeadline() + " <p>" +
-                getPriorityIndex() + " /day " + day + System.lineSeparator();
+                getPriorityIndex() + " /day " + recurrence + System.lineSeparator();
     }
 
     @Override
-    public String toString() {
+    protected String render() {
         return "\t [D]" + "[" + getStatusIcon() + "] " + getDescription() + " (by: " + super.getDeadline() + ")" +
-                " (every " + day + ") (" + getPriority() + ")";
+                " (" + recurrence.describe() + ") (" + getPriority() + ")";
     }
 }
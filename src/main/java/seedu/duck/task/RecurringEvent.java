@@ -2,31 +2,52 @@ package seedu.duck.task;
 
 import java.time.DayOfWeek;
 
-public class RecurringEvent extends Event {
-    private DayOfWeek day;
+public class RecurringEvent extends Event implements Recurring {
+    private Recurrence recurrence;
 
     public RecurringEvent(String description, String start, String end, DayOfWeek day) {
+        this(description, start, end, new Recurrence(day));
+    }
+
+    public RecurringEvent(String description, String start, String end, Recurrence recurrence) {
         super(description, start, end);
-        this.day = day;
+        this.recurrence = recurrence;
     }
 
     public DayOfWeek getDay() {
-        return this.day;
+        return recurrence.getDay();
     }
 
     public void setDay(DayOfWeek day) {
-        this.day = day;
+        recurrence = recurrence.withDay(day);
+        invalidateDisplay();
+    }
+
+    @Override
+    public Recurrence getRecurrence() {
+        return recurrence;
+    }
+
+    @Override
+    public void setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        invalidateDisplay();
+    }
+
+    @Override
+    public String getTimeOfDay() {
+        return getStart();
     }
 
     @Override
     public String toSaveString() {
         return getDoneConditionString() + " " + getDescription() + " /from " + getStart() + " /to " + getEnd() +
-                " <p>" + getPriorityIndex() + " /day " + day + System.lineSeparator();
+                " <p>" + getPriorityIndex() + " /day " + recurrence + System.lineSeparator();
     }
 
     @Override
-    public String toString() {
+    protected String render() {
         return "\t [E]" + "[" + getStatusIcon() + "] " + getDescription() + " (from: " + super.getStart()
-                + " to: " + super.getEnd() + ")" + " (every " + day + ") (" + getPriority() + ")";
+                + " to: " + super.getEnd() + ")" + " (" + recurrence.describe() + ") (" + getPriority() + ")";
     }
 }
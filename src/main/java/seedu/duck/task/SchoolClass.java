@@ -1,12 +1,17 @@
 package seedu.duck.task;
 
+import seedu.duck.util.DateTimeCodec;
+
 import java.time.DayOfWeek;
+import java.time.LocalTime;
 
 public class SchoolClass extends Task implements Comparable<SchoolClass> {
     private String className; // Name of class
     private DayOfWeek day; // Day of the week
     private String start; // Start date/time
     private String end;   // End date/time
+    private LocalTime startTime; // Parsed start time, null until first needed
+    private LocalTime endTime; // Parsed end time, null until first needed
 
     public SchoolClass(String className, String description, DayOfWeek day, String start, String end) {
         super(description);
@@ -22,6 +27,7 @@ public class SchoolClass extends Task implements Comparable<SchoolClass> {
 
     public void setClassName(String className) {
         this.className = className;
+        invalidateDisplay();
     }
 
     public DayOfWeek getDay() {
@@ -34,6 +40,15 @@ public class SchoolClass extends Task implements Comparable<SchoolClass> {
 
     public void setStart(String start) {
         this.start = start;
+        this.startTime = null;
+        invalidateDisplay();
+    }
+
+    public LocalTime getStartTime() {
+        if (startTime == null) {
+            startTime = DateTimeCodec.parseTime(start);
+        }
+        return startTime;
     }
 
     public String getEnd() {
@@ -42,15 +57,37 @@ public class SchoolClass extends Task implements Comparable<SchoolClass> {
 
     public void setEnd(String end) {
         this.end = end;
+        this.endTime = null;
+        invalidateDisplay();
+    }
+
+    public LocalTime getEndTime() {
+        if (endTime == null) {
+            endTime = DateTimeCodec.parseTime(end);
+        }
+        return endTime;
     }
 
+    /**
+     * Orders classes by day, then by start time. Classes starting at the same time are ordered
+     * by end time, class name and description, so that only equal classes compare as equal.
+     */
     @Override
     public int compareTo(SchoolClass lesson) {
-        if (lesson.day.compareTo(this.day) == 0) {
-            return this.start.compareTo(lesson.start);
-        } else {
-            return this.day.compareTo(lesson.day);
+        int result = this.day.compareTo(lesson.day);
+        if (result == 0) {
+            result = this.getStartTime().compareTo(lesson.getStartTime());
+        }
+        if (result == 0) {
+            result = this.getEndTime().compareTo(lesson.getEndTime());
+        }
+        if (result == 0) {
+            result = this.className.compareTo(lesson.className);
+        }
+        if (result == 0) {
+            result = this.getDescription().compareTo(lesson.getDescription());
         }
+        return result;
     }
 
     @Override
@@ -73,7 +110,7 @@ public class SchoolClass extends Task implements Comparable<SchoolClass> {
     }
 
     @Override
-    public String toString() {
+    protected String render() {
         if (getDescription().isBlank()) {
             return "\t [" + day + "]" + "[" + getStatusIcon() + "] " + className + " (from: "
                     + start + " to: " + end + ")";
@@ -3,22 +3,28 @@ import java.util.ArrayList;
 
 public class Task {
     private static int taskCount;
+    private static long nextSequenceNumber;
+    private final long sequenceNumber; // Increases in the order that tasks are created
     private String description;
     private int priority;
     private boolean isDone;
     private final ArrayList<String> additionalNotes = new ArrayList<String>();
+    private String display; // Cached result of render(), null after a field shown in it changes
 
     public Task(String description) {
         this.description = description;
         this.isDone = false;
         this.priority = 1; //automatically set to low priority
+        this.sequenceNumber = nextSequenceNumber++;
     }
 
     public void setDescription(String description) {
         this.description = description;
+        invalidateDisplay();
     }
     public void setPriority(String priority) {
         this.priority = Integer.parseInt(priority);
+        invalidateDisplay();
     }
 
     public String getDescription() {
@@ -31,10 +37,12 @@ public class Task {
 
     public void markAsDone() {
         this.isDone = true;
+        invalidateDisplay();
     }
 
     public void markAsNotDone() {
         this.isDone = false;
+        invalidateDisplay();
     }
 
     public String getStatusIcon() {
@@ -107,6 +115,16 @@ public class Task {
         return this.priority;
     }
 
+    /**
+     * Returns a number that orders tasks by creation. Since tasks are only ever appended
+     * to the list, this is also the order of the tasks in the list.
+     *
+     * @return The sequence number of the task
+     */
+    public long getSequenceNumber() {
+        return this.sequenceNumber;
+    }
+
     public static void incrementCount() {
         taskCount++;
     }
@@ -130,8 +148,29 @@ public class Task {
         return getDoneConditionString() + " " + getDescription();
     }
 
+    /**
+     * Makes the next call to toString render the task again. Must be called by every setter
+     * that changes a field shown in the display string.
+     */
+    protected void invalidateDisplay() {
+        display = null;
+    }
+
+    /**
+     * Builds the display string of the task. Subclasses override this instead of toString.
+     */
+    protected String render() {
+        return "[" + getStatusIcon() + "] " + getDescription();
+    }
+
+    /**
+     * Returns the display string of the task, which is only built again after the task has changed
+     */
     @Override
     public String toString() {
-        return "[" + getStatusIcon() + "] " + getDescription();
+        if (display == null) {
+            display = render();
+        }
+        return display;
     }
 }
@@ -12,7 +12,7 @@ public class Todo extends Task {
     }
 
     @Override
-    public String toString() {
-        return "\t [T]" + super.toString() + " (" + getPriority() + ")";
+    protected String render() {
+        return "\t [T]" + super.render() + " (" + getPriority() + ")";
     }
 }
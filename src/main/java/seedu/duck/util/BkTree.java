@@ -0,0 +1,158 @@
+package seedu.duck.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Burkhard-Keller tree over words, using the Levenshtein edit distance as the metric.
+ * Words within a given distance of a query word can be found without comparing
+ * the query against every word in the tree.
+ */
+public class BkTree {
+    private Node root;
+    private int size;
+
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * A word found in the tree together with its distance from the query word
+     */
+    public static class Match {
+        private final String word;
+        private final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+
+    /**
+     * Adds a word to the tree. Adding a word that is already in the tree has no effect.
+     *
+     * @param word The word to add
+     * @return true if the word was not already in the tree
+     */
+    public boolean add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return true;
+        }
+        Node current = root;
+        while (true) {
+            int distance = distance(current.word, word, Integer.MAX_VALUE);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = current.children.get(distance);
+            if (child == null) {
+                current.children.put(distance, new Node(word));
+                size++;
+                return true;
+            }
+            current = child;
+        }
+    }
+
+    /**
+     * Returns all words in the tree within maxDistance edits of the query word
+     *
+     * @param query The word to search for
+     * @param maxDistance The maximum number of edits allowed
+     * @return The matching words and their distances, in no particular order
+     */
+    public List<Match> search(String query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node current = toVisit.pop();
+            // Only the exact distance is needed to prune children, so the bound is loosened
+            // to the largest child edge that could still lead to a match.
+            int distance = distance(current.word, query, maxDistance + maxEdge(current));
+            if (distance <= maxDistance) {
+                matches.add(new Match(current.word, distance));
+            }
+            for (Map.Entry<Integer, Node> child : current.children.entrySet()) {
+                int edge = child.getKey();
+                if (edge >= distance - maxDistance && edge <= distance + maxDistance) {
+                    toVisit.push(child.getValue());
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static int maxEdge(Node node) {
+        int max = 0;
+        for (int edge : node.children.keySet()) {
+            max = Math.max(max, edge);
+        }
+        return max;
+    }
+
+    /**
+     * Computes the Levenshtein distance between two words, giving up early once
+     * the distance is known to exceed the limit.
+     *
+     * @param first The first word
+     * @param second The second word
+     * @param limit The distance beyond which the exact value is not needed
+     * @return The edit distance, or a value greater than limit if it exceeds the limit
+     */
+    public static int distance(String first, String second, int limit) {
+        int lengthDifference = Math.abs(first.length() - second.length());
+        if (lengthDifference > limit) {
+            return lengthDifference;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = (firstChar == second.charAt(j - 1)) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) {
+                return rowMinimum;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
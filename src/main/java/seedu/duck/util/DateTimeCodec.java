@@ -0,0 +1,154 @@
+package seedu.duck.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Parses and prints the dates and times used by tasks, in the yyyy-MM-dd HHmm and HHmm layouts.
+ * Strings in exactly those layouts with values in range are read digit by digit, and anything else
+ * goes to the formatters, so the results and exceptions are the same as LocalDateTime.parse and
+ * LocalTime.parse with the patterns. The last few date times parsed are kept, because the same
+ * deadlines and event times are read again by every index.
+ * All methods are safe to call from any thread.
+ */
+public class DateTimeCodec {
+    public static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    public static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    private static final int DATE_TIME_LENGTH = 15;
+    private static final int TIME_LENGTH = 4;
+    private static final int CACHE_SIZE = 256;
+
+    // Entries are immutable, so a thread sees either a whole entry or an older one, never a torn one
+    private static final CachedDateTime[] cache = new CachedDateTime[CACHE_SIZE];
+
+    /**
+     * Parses a date and time in the yyyy-MM-dd HHmm layout
+     *
+     * @param text The date and time, such as 2023-04-05 1800
+     * @return The date and time
+     * @throws java.time.format.DateTimeParseException if the text is not a valid date and time
+     */
+    public static LocalDateTime parseDateTime(String text) {
+        int slot = text.hashCode() & (CACHE_SIZE - 1);
+        CachedDateTime cached = cache[slot];
+        if (cached != null && cached.text.equals(text)) {
+            return cached.dateTime;
+        }
+        LocalDateTime dateTime = parseDateTimeDigits(text);
+        if (dateTime == null) {
+            dateTime = LocalDateTime.parse(text, DATE_TIME_FORMAT);
+        }
+        cache[slot] = new CachedDateTime(text, dateTime);
+        return dateTime;
+    }
+
+    /**
+     * Parses a time of day in the HHmm layout
+     *
+     * @param text The time, such as 1800
+     * @return The time
+     * @throws java.time.format.DateTimeParseException if the text is not a valid time
+     */
+    public static LocalTime parseTime(String text) {
+        if (text.length() == TIME_LENGTH) {
+            int hour = readDigits(text, 0, 2);
+            int minute = readDigits(text, 2, 4);
+            if (hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59) {
+                return LocalTime.of(hour, minute);
+            }
+        }
+        return LocalTime.parse(text, TIME_FORMAT);
+    }
+
+    /**
+     * Prints a date and time in the yyyy-MM-dd HHmm layout
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 1 || year > 9999) {
+            return DATE_TIME_FORMAT.format(dateTime);
+        }
+        char[] chars = new char[DATE_TIME_LENGTH];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, dateTime.getMonthValue(), 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, dateTime.getDayOfMonth(), 2);
+        chars[10] = ' ';
+        writeDigits(chars, 11, dateTime.getHour(), 2);
+        writeDigits(chars, 13, dateTime.getMinute(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Prints a time of day in the HHmm layout
+     */
+    public static String formatTime(LocalTime time) {
+        char[] chars = new char[TIME_LENGTH];
+        writeDigits(chars, 0, time.getHour(), 2);
+        writeDigits(chars, 2, time.getMinute(), 2);
+        return new String(chars);
+    }
+
+    /**
+     * Reads a date and time that is exactly in the yyyy-MM-dd HHmm layout with every field in range
+     *
+     * @return The date and time, or null if the formatter has to decide what the text means
+     */
+    private static LocalDateTime parseDateTimeDigits(String text) {
+        if (text.length() != DATE_TIME_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-'
+                || text.charAt(10) != ' ') {
+            return null;
+        }
+        int year = readDigits(text, 0, 4);
+        int month = readDigits(text, 5, 7);
+        int day = readDigits(text, 8, 10);
+        int hour = readDigits(text, 11, 13);
+        int minute = readDigits(text, 13, 15);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        // The formatter moves days past the end of the month back to the last day, so those go to it
+        if (day > 28 && day > LocalDate.of(year, month, 1).lengthOfMonth()) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute);
+    }
+
+    /**
+     * Reads the decimal number from start to end of the text
+     *
+     * @return The number, or -1 if any character in the range is not an ASCII digit
+     */
+    private static int readDigits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void writeDigits(char[] chars, int start, int value, int width) {
+        for (int i = start + width - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static class CachedDateTime {
+        private final String text;
+        private final LocalDateTime dateTime;
+
+        CachedDateTime(String text, LocalDateTime dateTime) {
+            this.text = text;
+            this.dateTime = dateTime;
+        }
+    }
+}
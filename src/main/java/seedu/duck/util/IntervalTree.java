@@ -0,0 +1,256 @@
+package seedu.duck.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * A set of half-open intervals [start, end) with values attached, stored in a treap
+ * augmented with the largest end point in each subtree. Finding the intervals that
+ * overlap a query interval takes O(log n + k) expected time for k results.
+ *
+ * @param <T> The type of the values attached to the intervals
+ */
+public class IntervalTree<T> {
+    private final Random random = new Random();
+    private Node<T> root;
+    private int size;
+
+    /**
+     * Receives intervals together with their values
+     *
+     * @param <T> The type of the values attached to the intervals
+     */
+    public interface IntervalVisitor<T> {
+        void visit(long start, long end, T value);
+    }
+
+    private static class Node<T> {
+        private final long start;
+        private final long end;
+        private final T value;
+        private final int priority;
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, T value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Adds an interval to the tree
+     *
+     * @param start The start of the interval, inclusive
+     * @param end The end of the interval, exclusive
+     * @param value The value attached to the interval
+     */
+    public void insert(long start, long end, T value) {
+        root = insert(root, new Node<>(start, end, value, random.nextInt()));
+        size++;
+    }
+
+    /**
+     * Removes one interval with the given start and a value equal to the given value
+     *
+     * @param start The start of the interval to remove
+     * @param value The value attached to the interval to remove
+     * @return true if an interval was removed
+     */
+    public boolean remove(long start, T value) {
+        boolean[] isRemoved = new boolean[1];
+        root = remove(root, start, value, isRemoved);
+        if (isRemoved[0]) {
+            size--;
+        }
+        return isRemoved[0];
+    }
+
+    /**
+     * Returns the values of all intervals overlapping [start, end)
+     *
+     * @param start The start of the query interval, inclusive
+     * @param end The end of the query interval, exclusive
+     * @return The values of the overlapping intervals, ordered by the start of their interval
+     */
+    public List<T> query(long start, long end) {
+        List<T> result = new ArrayList<>();
+        query(root, start, end, result);
+        return result;
+    }
+
+    /**
+     * Passes the value of every interval in the tree to the action, ordered by the start of their interval
+     *
+     * @param action The action to perform on each value
+     */
+    public void forEach(Consumer<T> action) {
+        forEach(root, action);
+    }
+
+    /**
+     * Passes every interval overlapping [start, end) to the visitor, ordered by the start of the interval
+     *
+     * @param start The start of the query interval, inclusive
+     * @param end The end of the query interval, exclusive
+     * @param visitor The visitor to receive the overlapping intervals
+     */
+    public void queryIntervals(long start, long end, IntervalVisitor<T> visitor) {
+        queryIntervals(root, start, end, visitor);
+    }
+
+    /**
+     * Passes every interval in the tree to the visitor, ordered by the start of the interval
+     *
+     * @param visitor The visitor to receive the intervals
+     */
+    public void forEachInterval(IntervalVisitor<T> visitor) {
+        forEachInterval(root, visitor);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (newNode.start < node.start) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<T> remove(Node<T> node, long start, T value, boolean[] isRemoved) {
+        if (node == null) {
+            return null;
+        }
+        if (start < node.start) {
+            node.left = remove(node.left, start, value, isRemoved);
+        } else if (start > node.start) {
+            node.right = remove(node.right, start, value, isRemoved);
+        } else if (Objects.equals(node.value, value)) {
+            isRemoved[0] = true;
+            return merge(node.left, node.right);
+        } else {
+            // Intervals with the same start may sit on either side after rotations
+            node.left = remove(node.left, start, value, isRemoved);
+            if (!isRemoved[0]) {
+                node.right = remove(node.right, start, value, isRemoved);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private void query(Node<T> node, long start, long end, List<T> result) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        query(node.left, start, end, result);
+        if (node.start < end) {
+            if (node.end > start) {
+                result.add(node.value);
+            }
+            query(node.right, start, end, result);
+        }
+    }
+
+    private void queryIntervals(Node<T> node, long start, long end, IntervalVisitor<T> visitor) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        queryIntervals(node.left, start, end, visitor);
+        if (node.start < end) {
+            if (node.end > start) {
+                visitor.visit(node.start, node.end, node.value);
+            }
+            queryIntervals(node.right, start, end, visitor);
+        }
+    }
+
+    private void forEachInterval(Node<T> node, IntervalVisitor<T> visitor) {
+        if (node == null) {
+            return;
+        }
+        forEachInterval(node.left, visitor);
+        visitor.visit(node.start, node.end, node.value);
+        forEachInterval(node.right, visitor);
+    }
+
+    private void forEach(Node<T> node, Consumer<T> action) {
+        if (node == null) {
+            return;
+        }
+        forEach(node.left, action);
+        action.accept(node.value);
+        forEach(node.right, action);
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    private void update(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.duck.util;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel that hands out items once their expiry time has passed.
+ * Each level has 64 slots, and each slot of a level covers a whole turn of the level below it,
+ * so four levels cover 64^4 ticks and items further away wait in an overflow list.
+ * Scheduling and cancelling take O(1) time, as each item remembers its position in its slot and is
+ * removed by moving the last item of the slot into its place. Advancing the wheel costs O(1) per tick
+ * plus O(1) for each item that expires or moves down a level.
+ *
+ * @param <T> The type of the items, which are told apart by identity
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final List<List<Entry<T>>> slots = new ArrayList<>();
+    private final List<Entry<T>> overflow = new ArrayList<>();
+    // Items whose expiry had already passed when they were scheduled
+    private final List<Entry<T>> overdue = new ArrayList<>();
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    private long currentTick;
+
+    private static class Entry<T> {
+        private final T item;
+        private final long expiry;
+        private List<Entry<T>> slot;
+        private int index;
+
+        private Entry(T item, long expiry) {
+            this.item = item;
+            this.expiry = expiry;
+        }
+    }
+
+    /**
+     * Creates an empty wheel
+     *
+     * @param startTick The first tick that has not passed yet
+     */
+    public TimingWheel(long startTick) {
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            slots.add(new ArrayList<>());
+        }
+        currentTick = startTick;
+    }
+
+    /**
+     * Adds an item that expires at the given tick, replacing any earlier expiry of the same item.
+     * Items with an expiry that has already passed expire on the next advance.
+     *
+     * @param item The item
+     * @param expiry The tick the item expires at
+     */
+    public void schedule(T item, long expiry) {
+        cancel(item);
+        Entry<T> entry = new Entry<>(item, expiry);
+        entries.put(item, entry);
+        place(entry);
+    }
+
+    /**
+     * Removes an item from the wheel
+     *
+     * @param item The item
+     * @return true if the item was in the wheel
+     */
+    public boolean cancel(T item) {
+        Entry<T> entry = entries.remove(item);
+        if (entry == null) {
+            return false;
+        }
+        Entry<T> last = entry.slot.remove(entry.slot.size() - 1);
+        if (last != entry) {
+            entry.slot.set(entry.index, last);
+            last.index = entry.index;
+        }
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward, passing every item that expires at or before the given tick to the action
+     * in the order they expire
+     *
+     * @param tick The tick to advance to, inclusive
+     * @param action The action to perform on each expired item
+     */
+    public void advanceTo(long tick, Consumer<T> action) {
+        if (!overdue.isEmpty()) {
+            expire(overdue, action);
+        }
+        while (currentTick <= tick) {
+            if (entries.isEmpty()) {
+                // Nothing can expire, so there is no need to visit the ticks in between
+                currentTick = tick + 1;
+                return;
+            }
+            cascade();
+            List<Entry<T>> slot = slots.get((int) (currentTick & SLOT_MASK));
+            currentTick++;
+            expire(slot, action);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        for (List<Entry<T>> slot : slots) {
+            slot.clear();
+        }
+        overflow.clear();
+        overdue.clear();
+        entries.clear();
+    }
+
+    /**
+     * Moves the items in the slots that start at the current tick down to the lower levels,
+     * starting from the highest level so that items can move down more than one level
+     */
+    private void cascade() {
+        int level = 0;
+        while (level < LEVELS && ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK) == 0) {
+            level++;
+        }
+        if (level == LEVELS) {
+            replace(overflow);
+            level--;
+        }
+        for (; level > 0; level--) {
+            replace(slots.get(level * SLOTS + (int) ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK)));
+        }
+    }
+
+    private void expire(List<Entry<T>> slot, Consumer<T> action) {
+        List<Entry<T>> expired = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<T> entry : expired) {
+            entries.remove(entry.item);
+            action.accept(entry.item);
+        }
+    }
+
+    private void replace(List<Entry<T>> slot) {
+        List<Entry<T>> toPlace = new ArrayList<>(slot);
+        slot.clear();
+        for (Entry<T> entry : toPlace) {
+            place(entry);
+        }
+    }
+
+    /**
+     * Puts an entry in the lowest level at which its expiry and the current tick are in the same turn
+     * of the level above, so that its slot is reached before it expires. Entries that have already
+     * expired wait in the overdue list, as the wheel may have passed the current tick already.
+     */
+    private void place(Entry<T> entry) {
+        long expiry = entry.expiry;
+        int level = 0;
+        while (level < LEVELS && !isSameTurn(expiry, currentTick, level + 1)) {
+            level++;
+        }
+        entry.slot = expiry < currentTick ? overdue : getSlot(level, expiry);
+        entry.index = entry.slot.size();
+        entry.slot.add(entry);
+    }
+
+    private List<Entry<T>> getSlot(int level, long expiry) {
+        if (level == LEVELS) {
+            return overflow;
+        }
+        return slots.get(level * SLOTS + (int) ((expiry >> (SLOT_BITS * level)) & SLOT_MASK));
+    }
+
+    private static boolean isSameTurn(long first, long second, int level) {
+        return (first >> (SLOT_BITS * level)) == (second >> (SLOT_BITS * level));
+    }
+}
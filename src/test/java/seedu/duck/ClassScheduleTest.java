@@ -0,0 +1,50 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.SchoolClass;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ClassScheduleTest {
+    @Test
+    public void getClasses_classesOnSeveralDays_onlyThatDayInTimeOrder() {
+        ClassSchedule schedule = new ClassSchedule();
+        SchoolClass late = new SchoolClass("CS2113", "lecture", DayOfWeek.MONDAY, "1600", "1800");
+        SchoolClass early = new SchoolClass("CS2040", "lab", DayOfWeek.MONDAY, "0900", "1000");
+        schedule.add(late);
+        schedule.add(new SchoolClass("CS2101", "tutorial", DayOfWeek.TUESDAY, "0800", "1000"));
+        schedule.add(early);
+        schedule.add(new SchoolClass("MA1521", "tutorial", DayOfWeek.SUNDAY, "1000", "1100"));
+        assertEquals(List.of(early, late), new ArrayList<>(schedule.getClasses(DayOfWeek.MONDAY)));
+        assertEquals(1, schedule.getClasses(DayOfWeek.SUNDAY).size());
+        assertEquals(0, schedule.getClasses(DayOfWeek.FRIDAY).size());
+    }
+
+    @Test
+    public void getNextClass_afterLastClassOfWeek_wrapsToFirstClass() {
+        ClassSchedule schedule = new ClassSchedule();
+        SchoolClass monday = new SchoolClass("CS2113", "lecture", DayOfWeek.MONDAY, "1600", "1800");
+        SchoolClass friday = new SchoolClass("CS2040", "lab", DayOfWeek.FRIDAY, "0900", "1000");
+        assertNull(schedule.getNextClass(DayOfWeek.MONDAY, LocalTime.NOON));
+        schedule.add(monday);
+        schedule.add(friday);
+        assertEquals(monday, schedule.getNextClass(DayOfWeek.MONDAY, LocalTime.NOON));
+        assertEquals(friday, schedule.getNextClass(DayOfWeek.MONDAY, LocalTime.of(17, 0)));
+        assertEquals(monday, schedule.getNextClass(DayOfWeek.SATURDAY, LocalTime.NOON));
+    }
+
+    @Test
+    public void add_duplicateClass_notAddedTwice() {
+        ClassSchedule schedule = new ClassSchedule();
+        schedule.add(new SchoolClass("CS2113", "lecture", DayOfWeek.MONDAY, "1600", "1800"));
+        assertFalse(schedule.add(new SchoolClass("CS2113", "lecture", DayOfWeek.MONDAY, "1600", "1800")));
+        assertEquals(1, schedule.size());
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandLineTest {
+    @Test
+    public void tokenize_extraWhitespace_collapsedLikeSplit() {
+        String input = "  return   book  /by 2023-04-05 1800 ";
+        CommandLine command = CommandLine.parse(input);
+        assertEquals("return book /by 2023-04-05 1800", command.getLine());
+        assertEquals("return", command.getCommand());
+        assertEquals(5, command.getWordCount());
+        assertArrayEquals(input.trim().replaceAll("\\s{2,}", " ").split(" "), command.getWords());
+        assertEquals("/by 2023-04-05 1800", command.getRest(2));
+    }
+
+    @Test
+    public void hasFlag_flagInsideWord_notMatched() {
+        CommandLine command = CommandLine.parse("walk to /tokyo /by 2023-04-05 1800");
+        assertTrue(command.hasFlag("/by"));
+        assertFalse(command.hasFlag("/to"));
+        assertEquals(15, command.getFlagOffset("/by"));
+    }
+
+    @Test
+    public void tokenize_reusedForBlankLine_noWords() {
+        CommandLine command = CommandLine.parse("mark 3");
+        command.tokenize("   ");
+        assertTrue(command.isBlank());
+        assertEquals("", command.getCommand());
+        assertArrayEquals(new String[] {""}, command.getWords());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class CommandQueueTest {
+    @Test
+    public void submit_manyCommands_runInOrder() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        CommandQueue queue = new CommandQueue(new TaskStore(tasks, new ClassSchedule()));
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String description = "task " + i;
+            results.add(queue.submit((taskList, classes) -> taskList.add(new Todo(description)), null));
+        }
+        results.forEach(CompletableFuture::join);
+        queue.stop();
+        assertEquals(100, tasks.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("task " + i, tasks.get(i).getDescription());
+        }
+        assertEquals(100, queue.getCommandCount());
+    }
+
+    @Test
+    public void execute_failingCommand_throwsAndQueueKeepsRunning() throws IOException {
+        CommandQueue queue = new CommandQueue(new TaskStore(new ArrayList<>(), new ClassSchedule()));
+        assertThrows(IOException.class, () -> queue.execute((tasks, classes) -> {
+            throw new IOException("disk full");
+        }));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        OutputSink.useCapturing();
+        try {
+            queue.execute((tasks, classes) -> System.out.println("quack"), output);
+        } finally {
+            System.setOut(stdout);
+            queue.stop();
+        }
+        assertEquals("quack" + System.lineSeparator(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_afterStop_throws() {
+        CommandQueue queue = new CommandQueue(new TaskStore(new ArrayList<>(), new ClassSchedule()));
+        queue.stop();
+        assertThrows(IllegalStateException.class, () -> queue.execute((tasks, classes) -> { }));
+    }
+}
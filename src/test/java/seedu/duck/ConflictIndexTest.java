@@ -0,0 +1,87 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.Event;
+import seedu.duck.task.Recurrence;
+import seedu.duck.task.RecurringEvent;
+import seedu.duck.task.SchoolClass;
+import seedu.duck.task.Task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeSet;
+
+public class ConflictIndexTest {
+    @Test
+    public void findConflicts_classAgainstEventsInOtherWeeks_onlyLaterEventsConflict() {
+        ConflictIndex.clear();
+        // 2023-04-03, 2023-04-10 and 2023-04-17 are Mondays
+        Event pastEvent = new Event("past meeting", "2023-04-03 1000", "2023-04-03 1100");
+        Event laterEvent = new Event("later meeting", "2023-04-17 1000", "2023-04-17 1100");
+        Event otherTimeEvent = new Event("lunch", "2023-04-17 1300", "2023-04-17 1400");
+        ConflictIndex.add(pastEvent);
+        ConflictIndex.add(laterEvent);
+        ConflictIndex.add(otherTimeEvent);
+
+        SchoolClass lecture = new SchoolClass("CS2113", "lecture", DayOfWeek.MONDAY, "0930", "1130");
+        List<Task> conflicts = ConflictIndex.findConflicts(lecture, LocalDateTime.of(2023, 4, 10, 8, 0));
+        assertEquals(1, conflicts.size());
+        assertSame(laterEvent, conflicts.get(0));
+        ConflictIndex.clear();
+    }
+
+    @Test
+    public void findConflicts_eventAgainstClass_sameWeekdayAndTime() {
+        ConflictIndex.clear();
+        SchoolClass lecture = new SchoolClass("CS2113", "lecture", DayOfWeek.MONDAY, "0930", "1130");
+        ConflictIndex.addClass(lecture);
+        Event meeting = new Event("meeting", "2023-04-17 1100", "2023-04-17 1200");
+        assertTrue(ConflictIndex.findConflicts(meeting).contains(lecture));
+        Event tuesdayMeeting = new Event("meeting", "2023-04-18 1000", "2023-04-18 1100");
+        assertTrue(ConflictIndex.findConflicts(tuesdayMeeting).isEmpty());
+        ConflictIndex.clear();
+    }
+
+    @Test
+    public void findConflicts_fortnightlyEvents_onlySameWeeksConflict() {
+        ConflictIndex.clear();
+        // 2023-04-03, 2023-04-10 and 2023-04-17 are Mondays
+        RecurringEvent oddWeeks = new RecurringEvent("tutorial", "1000", "1100",
+                new Recurrence(DayOfWeek.MONDAY, 2, LocalDate.of(2023, 4, 3), null, new TreeSet<>()));
+        ConflictIndex.add(oddWeeks);
+        LocalDateTime now = LocalDateTime.of(2023, 4, 1, 8, 0);
+
+        RecurringEvent evenWeeks = new RecurringEvent("lab", "1000", "1100",
+                new Recurrence(DayOfWeek.MONDAY, 2, LocalDate.of(2023, 4, 10), null, new TreeSet<>()));
+        assertTrue(ConflictIndex.findConflicts(evenWeeks, now).isEmpty());
+        RecurringEvent laterOddWeeks = new RecurringEvent("lab", "1000", "1100",
+                new Recurrence(DayOfWeek.MONDAY, 2, LocalDate.of(2023, 4, 17), null, new TreeSet<>()));
+        assertTrue(ConflictIndex.findConflicts(laterOddWeeks, now).contains(oddWeeks));
+        SchoolClass lecture = new SchoolClass("CS2113", "lecture", DayOfWeek.MONDAY, "1030", "1130");
+        assertTrue(ConflictIndex.findConflicts(lecture, now).contains(oddWeeks));
+        ConflictIndex.clear();
+    }
+
+    @Test
+    public void findConflicts_recurringEventWithEndDate_laterEventsIgnored() {
+        ConflictIndex.clear();
+        // 2023-04-24 and 2023-05-08 are Mondays
+        Event beforeEnd = new Event("meeting", "2023-04-24 1000", "2023-04-24 1100");
+        Event afterEnd = new Event("meeting", "2023-05-08 1000", "2023-05-08 1100");
+        ConflictIndex.add(beforeEnd);
+        ConflictIndex.add(afterEnd);
+        RecurringEvent tutorial = new RecurringEvent("tutorial", "1000", "1100",
+                new Recurrence(DayOfWeek.MONDAY, 1, null, LocalDate.of(2023, 4, 30), new TreeSet<>()));
+        List<Task> conflicts = ConflictIndex.findConflicts(tutorial, LocalDateTime.of(2023, 4, 1, 8, 0));
+        assertTrue(conflicts.contains(beforeEnd));
+        assertFalse(conflicts.contains(afterEnd));
+        ConflictIndex.clear();
+    }
+}
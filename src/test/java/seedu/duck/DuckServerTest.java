@@ -0,0 +1,190 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.Task;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class DuckServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private int port;
+
+    /**
+     * Something to do with a server running on an empty list
+     */
+    private interface ServerTest {
+        void run(ArrayList<Task> tasks) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Runs a test against a server on a free port, holding back saves so that the save file is
+     * left alone, and puts System.out and the static indexes back afterwards
+     */
+    private void withServer(ServerTest test) throws IOException, InterruptedException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        ClassSchedule classes = new ClassSchedule();
+        TaskStore store = new TaskStore(tasks, classes);
+        PrintStream stdout = System.out;
+        Task.clearCount();
+        TaskList.clearIndexes();
+        Storage.deferSaves();
+        port = DuckServer.start(0, store, new CommandQueue(store));
+        try {
+            test.run(tasks);
+        } finally {
+            DuckServer.stop();
+            System.setOut(stdout);
+            Storage.discardDeferredSaves();
+            Task.clearCount();
+            TaskList.clearIndexes();
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void tasks_addListMarkAndDelete_answeredWithCommandOutput() throws IOException, InterruptedException {
+        withServer(tasks -> {
+            HttpResponse<String> added = send("POST", "/tasks", "/todo read book");
+            assertEquals(200, added.statusCode());
+            assertTrue(added.body().contains("[T][ ] read book"), added.body());
+            assertEquals(1, tasks.size());
+
+            HttpResponse<String> listed = send("GET", "/tasks", null);
+            assertEquals(200, listed.statusCode());
+            assertTrue(listed.body().contains("1.") && listed.body().contains("read book"), listed.body());
+            HttpResponse<String> paged = send("GET", "/tasks?page=1&size=1", null);
+            assertEquals(200, paged.statusCode());
+            assertTrue(paged.body().contains("page 1 of 1") && paged.body().contains("read book"), paged.body());
+
+            HttpResponse<String> marked = send("POST", "/tasks/1/mark", null);
+            assertEquals(200, marked.statusCode());
+            assertTrue(marked.body().contains("[T][X] read book"), marked.body());
+            assertTrue(send("GET", "/tasks", null).body().contains("[T][X] read book"));
+
+            HttpResponse<String> found = send("GET", "/tasks/find?q=book", null);
+            assertEquals(200, found.statusCode());
+            assertTrue(found.body().contains("read book"), found.body());
+
+            HttpResponse<String> deleted = send("DELETE", "/tasks/1", null);
+            assertEquals(200, deleted.statusCode());
+            assertTrue(deleted.body().contains("read book"), deleted.body());
+            assertTrue(tasks.isEmpty());
+            assertFalse(send("GET", "/tasks", null).body().contains("read book"));
+        });
+    }
+
+    @Test
+    public void tasks_markWhileListing_listShowsLatestStatus() throws IOException, InterruptedException {
+        withServer(tasks -> {
+            send("POST", "/tasks", "/todo read book");
+            AtomicBoolean isDone = new AtomicBoolean();
+            List<Thread> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                Thread reader = new Thread(() -> {
+                    while (!isDone.get()) {
+                        try {
+                            send("GET", "/tasks", null);
+                        } catch (IOException | InterruptedException e) {
+                            return;
+                        }
+                    }
+                });
+                reader.start();
+                readers.add(reader);
+            }
+            try {
+                for (int i = 0; i < 100; i++) {
+                    String status = i % 2 == 0 ? "mark" : "unmark";
+                    send("POST", "/tasks/1/" + status, null);
+                    String expected = i % 2 == 0 ? "[T][X] read book" : "[T][ ] read book";
+                    String listed = send("GET", "/tasks", null).body();
+                    assertTrue(listed.contains(expected), listed);
+                }
+            } finally {
+                isDone.set(true);
+                for (Thread reader : readers) {
+                    reader.join();
+                }
+            }
+        });
+    }
+
+    @Test
+    public void tasks_badParametersOrBody_badRequest() throws IOException, InterruptedException {
+        withServer(tasks -> {
+            assertEquals(400, send("GET", "/tasks?page=first", null).statusCode());
+            assertEquals(400, send("GET", "/tasks?page=0", null).statusCode());
+            assertEquals(400, send("GET", "/tasks?size=-5", null).statusCode());
+            assertEquals(400, send("GET", "/tasks/upcoming?days=soon", null).statusCode());
+            assertEquals(400, send("GET", "/tasks/upcoming?days=7&top=some", null).statusCode());
+            assertEquals(400, send("POST", "/tasks", "   ").statusCode());
+            HttpResponse<String> malformed = send("POST", "/tasks", "/deadline essay /by soon");
+            assertEquals(400, malformed.statusCode());
+            assertFalse(malformed.body().isBlank());
+            assertTrue(tasks.isEmpty());
+        });
+    }
+
+    @Test
+    public void tasks_unknownPath_notFound() throws IOException, InterruptedException {
+        withServer(tasks -> {
+            assertEquals(404, send("GET", "/tasks/1/archive", null).statusCode());
+            assertEquals(404, send("GET", "/tasksandmore", null).statusCode());
+            assertEquals(404, send("GET", "/tasks/a/b/c", null).statusCode());
+        });
+    }
+
+    @Test
+    public void tasks_indexNotInList_notFound() throws IOException, InterruptedException {
+        withServer(tasks -> {
+            send("POST", "/tasks", "/todo read book");
+            assertEquals(404, send("DELETE", "/tasks/99", null).statusCode());
+            assertEquals(404, send("POST", "/tasks/0/mark", null).statusCode());
+            assertEquals(404, send("POST", "/tasks/2/unmark", null).statusCode());
+            assertEquals(404, send("DELETE", "/tasks/-1", null).statusCode());
+            assertEquals(1, tasks.size());
+            assertEquals(" ", tasks.get(0).getStatusIcon());
+        });
+    }
+
+    @Test
+    public void tasks_wrongMethod_methodNotAllowed() throws IOException, InterruptedException {
+        withServer(tasks -> {
+            assertEquals(405, send("PUT", "/tasks", "/todo read book").statusCode());
+            assertEquals(405, send("POST", "/tasks/find?q=book", null).statusCode());
+            assertEquals(405, send("DELETE", "/tasks/upcoming?days=7", null).statusCode());
+            assertEquals(405, send("GET", "/tasks/1/mark", null).statusCode());
+            assertEquals(405, send("POST", "/tasks/1", null).statusCode());
+            assertTrue(tasks.isEmpty());
+        });
+    }
+
+    @Test
+    public void tasks_bodyTooLong_payloadTooLarge() throws IOException, InterruptedException {
+        withServer(tasks -> {
+            String body = "/todo " + "a".repeat(1 << 16);
+            assertEquals(413, send("POST", "/tasks", body).statusCode());
+            assertTrue(tasks.isEmpty());
+        });
+    }
+}
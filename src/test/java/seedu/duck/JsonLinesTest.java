@@ -0,0 +1,86 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class JsonLinesTest {
+    /**
+     * Returns the records written while running the given code, with System.out restored afterwards
+     */
+    private static String writeRecords(String command, Runnable records) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        JsonLines.enable(buffer);
+        try {
+            JsonLines.setCommand(command);
+            records.run();
+            System.out.flush();
+        } finally {
+            JsonLines.disable();
+            System.setOut(stdout);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void writeTask_quotesBackslashesAndControlCharacters_escaped() {
+        Task task = new Todo("say \"hi\" \\ then\ttab\u0001");
+        String output = writeRecords("list", () -> JsonLines.writeTask(1, task, null));
+        assertEquals("{\"record\":\"task\",\"command\":\"list\",\"index\":1,\"type\":\"todo\",\"done\":false,"
+                + "\"priority\":" + task.getPriorityIndex() + ","
+                + "\"description\":\"say \\\"hi\\\" \\\\ then\\ttab\\u0001\",\"notes\":[]}\n", output);
+    }
+
+    @Test
+    public void writeTask_notes_writtenAsArray() {
+        Task task = new Todo("read");
+        task.addNotes("chapter 1");
+        task.addNotes("line\nbreak");
+        String output = writeRecords("list", () -> JsonLines.writeTask(1, task, null));
+        assertTrue(output.endsWith(",\"notes\":[\"chapter 1\",\"line\\nbreak\"]}\n"), output);
+    }
+
+    @Test
+    public void writeTask_deadlineOccurrence_isoTimes() {
+        Task task = new Deadline("essay", "2023-04-30 1800");
+        LocalDateTime occurrence = LocalDateTime.of(2023, 4, 30, 18, 0);
+        String output = writeRecords("deadline", () -> JsonLines.writeTask(2, task, occurrence));
+        assertEquals("{\"record\":\"task\",\"command\":\"deadline\",\"index\":2,\"type\":\"deadline\",\"done\":false,"
+                + "\"priority\":" + task.getPriorityIndex() + ",\"description\":\"essay\","
+                + "\"by\":\"2023-04-30T18:00\",\"at\":\"2023-04-30T18:00\",\"notes\":[]}\n", output);
+    }
+
+    @Test
+    public void writeStats_allCountsWritten() {
+        String output = writeRecords("stats", () -> JsonLines.writeStats(LocalDate.of(2023, 4, 10)));
+        assertTrue(output.startsWith("{\"record\":\"stats\",\"command\":\"stats\",\"tasks\":"), output);
+        for (String field : new String[] {"todos", "deadlines", "recurringDeadlines", "events", "recurringEvents",
+            "highPriority", "mediumPriority", "lowPriority", "done", "overdue", "dueThisWeek"}) {
+            assertTrue(output.contains(",\"" + field + "\":"), field);
+        }
+        assertTrue(output.endsWith("}\n"), output);
+    }
+
+    @Test
+    public void printedLines_borderAndBlankLinesDropped() {
+        String output = writeRecords("bye", () -> {
+            System.out.println("\t____________________________________________________________");
+            System.out.println();
+            System.out.println("\t Bye. \"Hope\" to see you again soon!");
+            System.out.println("\t____________________________________________________________");
+        });
+        assertEquals("{\"record\":\"message\",\"command\":\"bye\","
+                + "\"text\":\"Bye. \\\"Hope\\\" to see you again soon!\"}\n", output);
+    }
+}
@@ -3,8 +3,18 @@ package seedu.duck;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Scanner;
 
 public class ParserTest {
 
@@ -21,4 +31,78 @@ public class ParserTest {
     public void testProcessKeywords() {
         assertEquals("keyword", Parser.processKeywords(words,1));
     }
+
+    @Test
+    public void testParseSelection() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        tasks.get(4).markAsDone();
+        assertEquals(BitSet.valueOf(new long[]{0b1100001101L}), Parser.parseSelection(tasks, "1,3-4,9-10"));
+        assertEquals(BitSet.valueOf(new long[]{0b10000L}), Parser.parseSelection(tasks, "done"));
+        assertEquals(9, Parser.parseSelection(tasks, "undone").cardinality());
+        assertNull(Parser.parseSelection(tasks, "5-11"));
+        assertNull(Parser.parseSelection(tasks, "4-2"));
+    }
+
+    @Test
+    public void processCommand_readCommands_notQueued() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        CommandQueue queue = new CommandQueue(new TaskStore(tasks, new ClassSchedule()));
+        Storage.deferSaves();
+        try {
+            Parser.processCommand(queue, "/todo read book", new Scanner("list\nfind book\nhelp\nbye"));
+        } finally {
+            queue.stop();
+            Storage.discardDeferredSaves();
+            Task.clearCount();
+            TaskList.clearIndexes();
+        }
+        assertEquals(1, tasks.size());
+        assertEquals(1, queue.getCommandCount());
+    }
+
+    @Test
+    public void processCommand_question_answerReadWithoutLock() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        TaskStore store = new TaskStore(tasks, new ClassSchedule());
+        CommandQueue queue = new CommandQueue(store);
+        boolean[] isUnlocked = new boolean[1];
+        byte[] answer = "chapter 1\nbye\n".getBytes(StandardCharsets.UTF_8);
+        // Checks that a change can be made while the answer is being read
+        ByteArrayInputStream input = new ByteArrayInputStream(answer) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                Thread change = new Thread(() -> {
+                    try {
+                        store.write((taskList, classes) -> { });
+                    } catch (IOException e) {
+                        // The change does nothing
+                    }
+                });
+                change.setDaemon(true);
+                change.start();
+                try {
+                    change.join(1000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                isUnlocked[0] |= !change.isAlive();
+                return super.read(buffer, offset, length);
+            }
+        };
+        Storage.deferSaves();
+        try {
+            queue.execute((taskList, classes) -> TaskList.addTask("/todo read book", taskList, classes));
+            Parser.processCommand(queue, "add_notes 1", new Scanner(input));
+        } finally {
+            queue.stop();
+            Storage.discardDeferredSaves();
+            Task.clearCount();
+            TaskList.clearIndexes();
+        }
+        assertTrue(isUnlocked[0]);
+        assertEquals("chapter 1", tasks.get(0).getNote(0));
+    }
 }
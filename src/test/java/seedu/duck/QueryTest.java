@@ -0,0 +1,69 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.exception.IllegalQueryException;
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class QueryTest {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    @Test
+    public void test_deadlineDueSoon_matchesAllTerms() throws IllegalQueryException {
+        Deadline soon = new Deadline("CS2113 lab report", LocalDateTime.now().plusDays(2).format(DATE_TIME_FORMAT));
+        soon.setPriority("3");
+        Deadline later = new Deadline("CS2040 lab", LocalDateTime.now().plusDays(20).format(DATE_TIME_FORMAT));
+        later.setPriority("3");
+        Query query = Query.parse("type:deadline priority>=2 due<7d done:no text:\"lab\"");
+        assertTrue(query.test(soon));
+        assertFalse(query.test(later));
+        soon.markAsDone();
+        assertFalse(query.test(soon));
+    }
+
+    @Test
+    public void test_negationAndOr_matchesEitherGroup() throws IllegalQueryException {
+        Query query = Query.parse("-type:todo laboratory OR priority:high");
+        assertFalse(query.test(new Todo("laboratory coat")));
+        assertTrue(query.test(new Deadline("laboratory", "2023-04-05 1400")));
+        Todo urgent = new Todo("call home");
+        urgent.setPriority("3");
+        assertTrue(query.test(urgent));
+    }
+
+    @Test
+    public void parse_invalidTerms_exceptionThrown() {
+        assertThrows(IllegalQueryException.class, () -> Query.parse("type:note"));
+        assertThrows(IllegalQueryException.class, () -> Query.parse("priority>>2"));
+        assertThrows(IllegalQueryException.class, () -> Query.parse("due<soon"));
+        assertThrows(IllegalQueryException.class, () -> Query.parse("lab OR"));
+    }
+
+    @Test
+    public void run_rareWord_readsOnlyWordPostings() throws IllegalQueryException {
+        TaskList.clearIndexes();
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Todo todo = new Todo(i == 7 ? "water the cactus" : "water the plants " + i);
+            tasks.add(todo);
+            TaskList.indexTask(todo);
+        }
+        QueryPlanner.Result result = QueryPlanner.run(tasks, Query.parse("water cactus"));
+        assertEquals(List.of(tasks.get(7)), result.getTasks());
+        assertEquals(List.of(8), result.getIndexes());
+        assertEquals(1, result.getExaminedCount());
+        assertFalse(result.getPlan().get(0).isFullScan());
+        TaskList.clearIndexes();
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+public class RelativeTimeTest {
+    private static String between(LocalDateTime from, LocalDateTime to) {
+        return RelativeTime.append(new StringBuilder(), from, to).toString();
+    }
+
+    @Test
+    public void append_calendarMonths_countedFromFirstMoment() {
+        LocalDateTime from = LocalDateTime.of(2023, 1, 31, 9, 30);
+        assertEquals("1 month 1 day ", between(from, LocalDateTime.of(2023, 3, 1, 9, 30)));
+        assertEquals("1 year 2 months 3 days 4 hours 5 minutes ",
+                between(from, LocalDateTime.of(2024, 4, 3, 13, 35)));
+        assertEquals("23 hours 59 minutes ", between(from, LocalDateTime.of(2023, 2, 1, 9, 29, 59)));
+    }
+
+    @Test
+    public void append_pastMoment_negativeParts() {
+        LocalDateTime from = LocalDateTime.of(2023, 4, 5, 18, 0);
+        assertEquals("-2 days -1 minutes ", between(from, LocalDateTime.of(2023, 4, 3, 17, 59)));
+        assertEquals("", between(from, from.plusSeconds(59)));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Task;
+import seedu.duck.util.DateTimeCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+public class ReminderSchedulerTest {
+    private static final long WAIT_MILLIS = 5000;
+
+    /**
+     * Something to do with the reminder thread running
+     */
+    private interface SchedulerTest {
+        void run(TaskStore store, ByteArrayOutputStream output) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Runs a test with the reminder thread started and System.out captured, and puts both back afterwards
+     */
+    private static void withScheduler(SchedulerTest test) throws IOException, InterruptedException {
+        TaskStore store = new TaskStore(new ArrayList<>(), new ClassSchedule());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+        ReminderScheduler.clear();
+        ReminderScheduler.setLeadMinutes(ReminderScheduler.DEFAULT_LEAD_MINUTES);
+        ReminderScheduler.start(store);
+        try {
+            test.run(store, output);
+        } finally {
+            ReminderScheduler.stop();
+            ReminderScheduler.clear();
+            System.setOut(stdout);
+        }
+    }
+
+    private static Task dueIn(String description, long minutes) {
+        LocalDateTime by = LocalDateTime.now().plusMinutes(minutes);
+        return new Deadline(description, by.format(DateTimeCodec.DATE_TIME_FORMAT));
+    }
+
+    private static boolean waitFor(ByteArrayOutputStream output, String text) throws InterruptedException {
+        long end = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < end) {
+            if (output.toString(StandardCharsets.UTF_8).contains(text)) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    @Test
+    public void add_dueWithinLeadTime_printedWithoutCommand() throws IOException, InterruptedException {
+        withScheduler((store, output) -> {
+            store.write((tasks, classes) -> ReminderScheduler.add(dueIn("submit essay", 30)));
+            assertTrue(waitFor(output, "submit essay"), output.toString(StandardCharsets.UTF_8));
+            assertEquals(0, ReminderScheduler.getPendingCount());
+        });
+    }
+
+    @Test
+    public void remove_beforeDue_notPrinted() throws IOException, InterruptedException {
+        withScheduler((store, output) -> {
+            store.write((tasks, classes) -> {
+                Task cancelled = dueIn("return book", 20);
+                ReminderScheduler.add(cancelled);
+                ReminderScheduler.remove(cancelled);
+                ReminderScheduler.add(dueIn("hand in lab report", 30));
+            });
+            assertTrue(waitFor(output, "hand in lab report"), output.toString(StandardCharsets.UTF_8));
+            assertFalse(output.toString(StandardCharsets.UTF_8).contains("return book"));
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.Task;
+
+import java.util.ArrayList;
+
+public class StorageTest {
+    @Test
+    public void loadTask_invalidUntilDate_treatedAsCorruptedLine() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        assertThrows(IndexOutOfBoundsException.class, () -> Storage.loadTask(
+                "gym /from 1800 /to 1900 <p>1 /day MONDAY /until 2023-13-45 ", tasks, new ClassSchedule(), "0"));
+        assertTrue(tasks.isEmpty());
+    }
+}
@@ -1,23 +1,32 @@
 package seedu.duck;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.duck.exception.IllegalDeadlineException;
 import seedu.duck.exception.IllegalEventException;
+import seedu.duck.exception.IllegalRecurrenceException;
 import seedu.duck.exception.IllegalTodoException;
 import seedu.duck.exception.expiredDateException;
 import seedu.duck.exception.startAfterEndException;
 import seedu.duck.task.Deadline;
 import seedu.duck.task.Event;
+import seedu.duck.task.Recurrence;
 import seedu.duck.task.RecurringDeadline;
 import seedu.duck.task.RecurringEvent;
+import seedu.duck.task.SchoolClass;
 import seedu.duck.task.Task;
 import seedu.duck.task.Todo;
 
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Scanner;
 
 public class TaskListTest {
     @Test
@@ -45,7 +54,7 @@ public class TaskListTest {
     }
 
     @Test
-    public void addRecurringDeadline_correctCommand() throws IllegalDeadlineException {
+    public void addRecurringDeadline_correctCommand() throws IllegalDeadlineException, IllegalRecurrenceException {
         ArrayList<Task> testTasks = new ArrayList<>();
         String line = "/re deadline /by 1200 /day MONDAY";
         TaskList.addRecurringDeadline(line, testTasks);
@@ -53,6 +62,51 @@ public class TaskListTest {
         assertEquals("deadline", testTasks.get(0).getDescription());
     }
 
+    @Test
+    public void addDeadline_wordStartingWithFlag_keptInDescription() throws expiredDateException,
+            IllegalDeadlineException {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        String line = "free up 10 /bytes /by 2099-04-30 1200";
+        TaskList.addDeadline(line, testTasks);
+        Deadline deadline = (Deadline) testTasks.get(0);
+        assertEquals("free up 10 /bytes", deadline.getDescription());
+        assertEquals("2099-04-30 1200", deadline.getDeadline());
+        TaskList.clearIndexes();
+    }
+
+    @Test
+    public void addRecurringDeadline_wordStartingWithFlag_keptInDescription() throws IllegalDeadlineException,
+            IllegalRecurrenceException {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        String line = "/re free up 10 /bytes /by 1200 /day MONDAY";
+        TaskList.addRecurringDeadline(line, testTasks);
+        assertEquals("free up 10 /bytes", testTasks.get(0).getDescription());
+        TaskList.clearIndexes();
+    }
+
+    @Test
+    public void addSchoolClass_wordStartingWithFlag_keptInDescription() throws Exception {
+        ClassSchedule classes = new ClassSchedule();
+        TaskList.addSchoolClass("lecture /today /class CS2113 /day MONDAY /from 1000 /to 1200", classes);
+        assertEquals(1, classes.size());
+        SchoolClass schoolClass = classes.iterator().next();
+        assertEquals("lecture /today", schoolClass.getDescription());
+        assertEquals("CS2113", schoolClass.getClassName());
+        assertEquals("1000", schoolClass.getStart());
+        assertEquals("1200", schoolClass.getEnd());
+        TaskList.clearIndexes();
+    }
+
+    @Test
+    public void tryDeleteClass_wordStartingWithFlag_classRemoved() {
+        ClassSchedule classes = new ClassSchedule();
+        classes.add(new SchoolClass("CS2113", "field /daytrip", DayOfWeek.MONDAY, "1000", "1200"));
+        TaskList.tryDeleteClass(classes,
+                "remove /class CS2113 /description field /daytrip /day MONDAY /from 1000 /to 1200");
+        assertTrue(classes.isEmpty());
+        TaskList.clearIndexes();
+    }
+
     @Test
     public void addEvent_correctCommand() throws expiredDateException, startAfterEndException,
             IllegalEventException {
@@ -64,7 +118,28 @@ public class TaskListTest {
     }
 
     @Test
-    public void addRecurringEvent_correctCommand() throws IllegalEventException {
+    public void addEvent_wordStartingWithFlag_keptInDescription() throws expiredDateException,
+            startAfterEndException, IllegalEventException {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        String line = "visit /tokyo /from 2099-04-30 1200 /to 2099-04-30 1900";
+        TaskList.addEvent(line, testTasks);
+        Event event = (Event) testTasks.get(0);
+        assertEquals("visit /tokyo", event.getDescription());
+        assertEquals("2099-04-30 1200", event.getStart());
+        assertEquals("2099-04-30 1900", event.getEnd());
+    }
+
+    @Test
+    public void addRecurringEvent_wordStartingWithFlag_keptInDescription() throws IllegalEventException,
+            IllegalRecurrenceException {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        String line = "/re visit /tokyo /daytrip /from 1200 /to 1900 /day MONDAY";
+        TaskList.addRecurringEvent(line, testTasks);
+        assertEquals("visit /tokyo /daytrip", testTasks.get(0).getDescription());
+    }
+
+    @Test
+    public void addRecurringEvent_correctCommand() throws IllegalEventException, IllegalRecurrenceException {
         ArrayList<Task> testTasks = new ArrayList<>();
         String line = "/re event /from 1200 /to 1900 /day MONDAY";
         TaskList.addRecurringEvent(line, testTasks);
@@ -72,6 +147,33 @@ public class TaskListTest {
         assertEquals("event", testTasks.get(0).getDescription());
     }
 
+    @Test
+    public void refresh_unsavedTasks_keptInList() throws IOException {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        ClassSchedule classes = new ClassSchedule();
+        CommandQueue queue = new CommandQueue(new TaskStore(testTasks, classes));
+        Storage.deferSaves();
+        try {
+            Parser.processCommand(queue, "/todo first", new Scanner("list_classes\nbye"));
+        } finally {
+            queue.stop();
+            Storage.discardDeferredSaves();
+            TaskList.clearIndexes();
+        }
+        assertEquals(1, testTasks.size());
+        assertEquals("first", testTasks.get(0).getDescription());
+    }
+
+    @Test
+    public void refresh_classEndedToday_markedDone() {
+        ClassSchedule classes = new ClassSchedule();
+        SchoolClass schoolClass = new SchoolClass("CS2113", "lecture", LocalDate.now().getDayOfWeek(),
+                "0000", "0000");
+        classes.add(schoolClass);
+        TaskList.refresh(classes);
+        assertEquals("X", schoolClass.getStatusIcon());
+    }
+
     @Test
     public void setPriority_correctCommand() {
         ArrayList<Task> testTasks = new ArrayList<>();
@@ -89,4 +191,62 @@ public class TaskListTest {
         TaskList.setPriority(testTasks, wordsTwo);
         assertEquals(secondPri, testTasks.get(0).getPriorityIndex());
     }
+
+    @Test
+    public void setPriority_correctCommand_taskMovedToNewBucket() {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        Todo todo = new Todo("todo");
+        testTasks.add(todo);
+        TaskList.indexTask(todo);
+        Task.incrementCount();
+        assertTrue(PriorityIndex.getTasks(1).contains(todo));
+        TaskList.setPriority(testTasks, "priority 1 3".split(" "));
+        assertFalse(PriorityIndex.getTasks(1).contains(todo));
+        assertTrue(PriorityIndex.getTasks(3).contains(todo));
+    }
+
+    @Test
+    public void editTaskFields_invalidField_taskUnchanged() throws Exception {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        Task.clearCount();
+        testTasks.add(new Event("meeting", "2099-01-01 1100", "2099-01-01 1300"));
+        Task.incrementCount();
+        TaskList.editTaskFields(testTasks, "edit 1 /to 2099-01-01 1800 /description project meeting".split(" "));
+        assertEquals("project meeting", testTasks.get(0).getDescription());
+        assertEquals("2099-01-01 1800", ((Event) testTasks.get(0)).getEnd());
+
+        String[] words = "edit 1 /description lunch /to 2099-01-01 0900".split(" ");
+        assertThrows(startAfterEndException.class, () -> TaskList.editTaskFields(testTasks, words));
+        assertEquals("project meeting", testTasks.get(0).getDescription());
+        assertEquals("2099-01-01 1800", ((Event) testTasks.get(0)).getEnd());
+        Task.clearCount();
+        TaskList.clearIndexes();
+    }
+
+    @Test
+    public void editTaskFields_dayWithOptions_ruleReplaced() throws Exception {
+        ArrayList<Task> testTasks = new ArrayList<>();
+        Task.clearCount();
+        testTasks.add(new RecurringDeadline("quiz", "2359", DayOfWeek.MONDAY));
+        Task.incrementCount();
+        String[] words = "edit 1 /day WEDNESDAY /every 2 /until 2099-06-30 /description weekly quiz".split(" ");
+        TaskList.editTaskFields(testTasks, words);
+        Recurrence recurrence = ((RecurringDeadline) testTasks.get(0)).getRecurrence();
+        assertEquals("weekly quiz", testTasks.get(0).getDescription());
+        assertEquals(DayOfWeek.WEDNESDAY, recurrence.getDay());
+        assertEquals(2, recurrence.getIntervalWeeks());
+        assertEquals(LocalDate.of(2099, 6, 30), recurrence.getUntil());
+
+        TaskList.editTask(testTasks, "edit 1".split(" "), "/day FRIDAY");
+        recurrence = ((RecurringDeadline) testTasks.get(0)).getRecurrence();
+        assertEquals(DayOfWeek.FRIDAY, recurrence.getDay());
+        assertEquals(2, recurrence.getIntervalWeeks());
+        assertEquals(LocalDate.of(2099, 6, 30), recurrence.getUntil());
+
+        String[] badWords = "edit 1 /day MONDAY /every never".split(" ");
+        assertThrows(IllegalRecurrenceException.class, () -> TaskList.editTaskFields(testTasks, badWords));
+        assertEquals(DayOfWeek.FRIDAY, ((RecurringDeadline) testTasks.get(0)).getRecurrence().getDay());
+        Task.clearCount();
+        TaskList.clearIndexes();
+    }
 }
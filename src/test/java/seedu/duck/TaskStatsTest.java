@@ -0,0 +1,66 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.exception.IllegalRecurrenceException;
+import seedu.duck.task.Deadline;
+import seedu.duck.task.Recurrence;
+import seedu.duck.task.RecurringDeadline;
+import seedu.duck.task.Todo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public class TaskStatsTest {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+
+    @Test
+    public void getOverdueCount_markAndDelete_countsUpdated() {
+        TaskList.clearIndexes();
+        Deadline overdue = new Deadline("overdue", LocalDateTime.now().minusDays(1).format(DATE_TIME_FORMAT));
+        Deadline upcoming = new Deadline("upcoming", LocalDateTime.now().plusDays(1).format(DATE_TIME_FORMAT));
+        TaskList.indexTask(overdue);
+        TaskList.indexTask(upcoming);
+        TaskList.indexTask(new Todo("todo"));
+        assertEquals(2, TaskStats.getDeadlineCount());
+        assertEquals(1, TaskStats.getTodoCount());
+        assertEquals(1, TaskStats.getOverdueCount());
+
+        TaskList.setDone(overdue, true);
+        assertEquals(0, TaskStats.getOverdueCount());
+        assertEquals(1, TaskStats.getDoneCount());
+        TaskList.setDone(overdue, false);
+        assertEquals(1, TaskStats.getOverdueCount());
+
+        TaskList.unindexTask(overdue);
+        assertEquals(0, TaskStats.getOverdueCount());
+        assertEquals(1, TaskStats.getDeadlineCount());
+        assertEquals(2, TaskStats.getPriorityCount(1));
+        TaskList.clearIndexes();
+        assertEquals(0, TaskStats.getTaskCount());
+    }
+
+    @Test
+    public void getDueThisWeekCount_recurringDeadline_movedOnEachWeek() throws IllegalRecurrenceException {
+        TaskList.clearIndexes();
+        LocalDate today = LocalDate.now();
+        RecurringDeadline weekly = new RecurringDeadline("weekly", "2359", today.getDayOfWeek());
+        RecurringDeadline ending = new RecurringDeadline("ending", "2359",
+                Recurrence.parse(today.getDayOfWeek() + " /until " + today.plusDays(1)));
+        TaskList.indexTask(weekly);
+        TaskList.indexTask(ending);
+        assertEquals(2, TaskStats.getDueThisWeekCount(today));
+
+        assertEquals(1, TaskStats.getDueThisWeekCount(today.plusDays(7)));
+        assertEquals(1, TaskStats.getDueThisWeekCount(today.plusDays(14)));
+        TaskList.setDone(weekly, true);
+        assertEquals(0, TaskStats.getDueThisWeekCount(today.plusDays(14)));
+        TaskList.setDone(weekly, false);
+        assertEquals(1, TaskStats.getDueThisWeekCount(today.plusDays(14)));
+        TaskList.unindexTask(weekly);
+        assertEquals(0, TaskStats.getDueThisWeekCount(today.plusDays(14)));
+        TaskList.clearIndexes();
+    }
+}
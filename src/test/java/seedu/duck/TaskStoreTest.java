@@ -0,0 +1,71 @@
+package seedu.duck;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.task.Task;
+import seedu.duck.task.Todo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskStoreTest {
+    @Test
+    public void snapshot_unchanged_sameSnapshot() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("read book"));
+        TaskStore store = new TaskStore(tasks, new ClassSchedule());
+        assertSame(store.snapshot(), store.snapshot());
+        assertEquals(1, store.snapshot().getTasks().size());
+    }
+
+    @Test
+    public void snapshot_afterWrite_oldSnapshotUnchanged() throws IOException {
+        TaskStore store = new TaskStore(new ArrayList<>(), new ClassSchedule());
+        TaskStore.Snapshot before = store.snapshot();
+        store.write((tasks, classes) -> tasks.add(new Todo("read book")));
+        TaskStore.Snapshot after = store.snapshot();
+        assertNotSame(before, after);
+        assertEquals(0, before.getTasks().size());
+        assertEquals(1, after.getTasks().size());
+        List<TaskStore.TaskView> views = after.getTasks();
+        assertThrows(UnsupportedOperationException.class, () -> views.remove(0));
+    }
+
+    @Test
+    public void snapshot_taskMarkedAfterwards_viewUnchanged() throws IOException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("read book"));
+        tasks.get(0).addNotes("chapter 1");
+        TaskStore store = new TaskStore(tasks, new ClassSchedule());
+        TaskStore.TaskView before = store.snapshot().getTasks().get(0);
+        store.write((taskList, classes) -> {
+            taskList.get(0).markAsDone();
+            taskList.get(0).addNotes("chapter 2");
+        });
+        assertFalse(before.isDone());
+        assertTrue(before.toString().contains("[T][ ] read book"));
+        assertEquals(List.of("chapter 1"), before.getNotes());
+        TaskStore.TaskView after = store.snapshot().getTasks().get(0);
+        assertTrue(after.isDone());
+        assertTrue(after.toString().contains("[T][X] read book"));
+        assertEquals(2, after.getNotes().size());
+    }
+
+    @Test
+    public void snapshot_failedWrite_seesPartialChange() {
+        TaskStore store = new TaskStore(new ArrayList<>(), new ClassSchedule());
+        store.snapshot();
+        assertThrows(IOException.class, () -> store.write((tasks, classes) -> {
+            tasks.add(new Todo("read book"));
+            throw new IOException("disk full");
+        }));
+        assertEquals(1, store.snapshot().getTasks().size());
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.duck.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.duck.exception.IllegalRecurrenceException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class RecurrenceTest {
+    @Test
+    public void occurrences_everyTwoWeeksWithException_skipsWeeksAndException() throws IllegalRecurrenceException {
+        Recurrence recurrence = Recurrence.parse("MONDAY /every 2 /starting 2023-04-03 /except 2023-04-17");
+        List<LocalDate> dates = recurrence.occurrences(LocalDate.of(2023, 4, 1), LocalDate.of(2023, 5, 31))
+                .collect(Collectors.toList());
+        assertEquals(List.of(LocalDate.of(2023, 4, 3), LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 15),
+                LocalDate.of(2023, 5, 29)), dates);
+    }
+
+    @Test
+    public void occurrences_rangeStartsMidSeries_alignedToStartingWeek() throws IllegalRecurrenceException {
+        Recurrence recurrence = Recurrence.parse("FRIDAY /every 3 /starting 2023-01-06");
+        assertEquals(LocalDate.of(2023, 2, 17), recurrence.occurrences(LocalDate.of(2023, 2, 1),
+                LocalDate.of(2023, 12, 31)).findFirst().orElseThrow());
+    }
+
+    @Test
+    public void occurrences_untilDate_stopsAtUntil() throws IllegalRecurrenceException {
+        Recurrence recurrence = Recurrence.parse("SUNDAY /until 2023-04-16");
+        assertEquals(3, recurrence.occurrences(LocalDate.of(2023, 4, 1), LocalDate.of(2023, 12, 31)).count());
+        assertTrue(recurrence.hasEndedBefore(LocalDate.of(2023, 4, 17)));
+    }
+
+    @Test
+    public void occursOn_sameAsGeneratedOccurrences() throws IllegalRecurrenceException {
+        Recurrence recurrence = Recurrence.parse("WEDNESDAY /every 2 /starting 2023-03-01 /except 2023-03-29");
+        List<LocalDate> dates = recurrence.occurrences(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 6, 30))
+                .collect(Collectors.toList());
+        for (LocalDate date = LocalDate.of(2023, 1, 1); date.isBefore(LocalDate.of(2023, 7, 1));
+                date = date.plusDays(1)) {
+            assertEquals(dates.contains(date), recurrence.occursOn(date));
+        }
+    }
+
+    @Test
+    public void parse_savedRule_sameRule() throws IllegalRecurrenceException {
+        Recurrence recurrence = new Recurrence(DayOfWeek.TUESDAY);
+        assertEquals("TUESDAY", recurrence.toString());
+        String rule = "THURSDAY /every 2 /starting 2023-04-06 /until 2023-06-01 /except 2023-04-20,2023-05-04";
+        assertEquals(rule, Recurrence.parse(rule).toString());
+        assertFalse(Recurrence.parse(rule).isEveryWeek());
+    }
+
+    @Test
+    public void parse_invalidDate_illegalRecurrence() {
+        assertThrows(IllegalRecurrenceException.class, () -> Recurrence.parse("MONDAY /until 2023-02-30x"));
+        assertThrows(IllegalRecurrenceException.class, () -> Recurrence.parse("MONDAY /starting tomorrow"));
+        assertThrows(IllegalRecurrenceException.class, () -> Recurrence.parse("MONDAY /except 2023-04-03,04-10"));
+    }
+}
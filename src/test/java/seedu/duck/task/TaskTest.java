@@ -0,0 +1,34 @@
+package seedu.duck.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+
+public class TaskTest {
+    @Test
+    public void toString_unchangedTask_sameStringReturned() {
+        Deadline deadline = new Deadline("return book", "2023-04-05 1800");
+        assertSame(deadline.toString(), deadline.toString());
+    }
+
+    @Test
+    public void toString_afterSetters_renderedAgain() {
+        Event event = new Event("meeting", "2023-04-05 1400", "2023-04-05 1600");
+        assertEquals("\t [E][ ] meeting (from: 2023-04-05 1400 to: 2023-04-05 1600) (Low priority.)",
+                event.toString());
+        event.markAsDone();
+        event.setPriority("3");
+        event.setEnd("2023-04-05 1700");
+        event.setDescription("project meeting");
+        assertEquals("\t [E][X] project meeting (from: 2023-04-05 1400 to: 2023-04-05 1700) (High priority.)",
+                event.toString());
+
+        RecurringDeadline quiz = new RecurringDeadline("quiz", "2359", DayOfWeek.SUNDAY);
+        String before = quiz.toString();
+        quiz.setDay(DayOfWeek.MONDAY);
+        assertEquals(before.replace("SUNDAY", "MONDAY"), quiz.toString());
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.duck.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class BkTreeTest {
+    @Test
+    public void distance_typos_correctEditCount() {
+        assertEquals(0, BkTree.distance("assignment", "assignment", 10));
+        assertEquals(1, BkTree.distance("assigment", "assignment", 10));
+        assertEquals(3, BkTree.distance("asignmnet", "assignment", 10));
+        assertEquals(3, BkTree.distance("kitten", "sitting", 10));
+    }
+
+    @Test
+    public void add_duplicateWord_notAddedTwice() {
+        BkTree tree = new BkTree();
+        assertTrue(tree.add("lab"));
+        assertFalse(tree.add("lab"));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_misspelledWord_closeWordsFound() {
+        BkTree tree = new BkTree();
+        for (String word : new String[]{"assignment", "alignment", "lab", "lecture", "tutorial", "assessment"}) {
+            tree.add(word);
+        }
+        List<BkTree.Match> matches = tree.search("assigment", 1);
+        assertEquals(1, matches.size());
+        assertEquals("assignment", matches.get(0).getWord());
+        assertEquals(1, matches.get(0).getDistance());
+        assertEquals(3, tree.search("assigment", 3).size());
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.duck.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class DateTimeCodecTest {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
+
+    @Test
+    public void parseDateTime_sameAsFormatter() {
+        String[] texts = {"2023-04-05 1800", "2024-02-29 0000", "2023-02-30 1200", "2023-12-31 2359"};
+        for (String text : texts) {
+            assertEquals(LocalDateTime.parse(text, DATE_TIME_FORMAT), DateTimeCodec.parseDateTime(text));
+            assertEquals(LocalDateTime.parse(text, DATE_TIME_FORMAT), DateTimeCodec.parseDateTime(text));
+        }
+    }
+
+    @Test
+    public void parseDateTime_invalidText_exceptionThrown() {
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseDateTime("2023-13-05 1800"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseDateTime("2023-04-05 1860"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseDateTime("0000-04-05 1800"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseDateTime("2023-04-05"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseTime("18:00"));
+        assertThrows(DateTimeParseException.class, () -> DateTimeCodec.parseTime("2a00"));
+    }
+
+    @Test
+    public void format_sameAsFormatter() {
+        LocalDateTime dateTime = LocalDateTime.of(987, 1, 2, 3, 4);
+        assertEquals(DATE_TIME_FORMAT.format(dateTime), DateTimeCodec.formatDateTime(dateTime));
+        assertEquals("0304", DateTimeCodec.formatTime(LocalTime.of(3, 4)));
+        assertEquals(LocalTime.parse("0930", TIME_FORMAT), DateTimeCodec.parseTime("0930"));
+    }
+}
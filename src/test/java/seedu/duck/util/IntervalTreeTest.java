@@ -0,0 +1,62 @@
+package seedu.duck.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class IntervalTreeTest {
+    @Test
+    public void query_touchingIntervals_notOverlapping() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(100, 200, "lecture");
+        assertTrue(tree.query(200, 300).isEmpty());
+        assertTrue(tree.query(0, 100).isEmpty());
+        assertEquals(List.of("lecture"), tree.query(199, 300));
+    }
+
+    @Test
+    public void remove_existingInterval_noLongerFound() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(100, 200, "lecture");
+        tree.insert(100, 150, "tutorial");
+        assertTrue(tree.remove(100, "tutorial"));
+        assertFalse(tree.remove(100, "tutorial"));
+        assertEquals(List.of("lecture"), tree.query(0, 1000));
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void query_randomIntervals_sameAsLinearScan() {
+        Random random = new Random(2113);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        List<long[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(10000);
+            long end = start + 1 + random.nextInt(300);
+            intervals.add(new long[]{start, end});
+            tree.insert(start, end, i);
+        }
+        for (int i = 0; i < 500; i += 3) {
+            tree.remove(intervals.get(i)[0], i);
+        }
+        for (int query = 0; query < 200; query++) {
+            long start = random.nextInt(10000);
+            long end = start + 1 + random.nextInt(500);
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < intervals.size(); i++) {
+                if (i % 3 != 0 && intervals.get(i)[0] < end && intervals.get(i)[1] > start) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, new HashSet<>(tree.query(start, end)));
+        }
+    }
+}
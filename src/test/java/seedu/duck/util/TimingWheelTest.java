@@ -0,0 +1,95 @@
+package seedu.duck.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class TimingWheelTest {
+    @Test
+    public void advanceTo_pastExpiry_expiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        wheel.schedule("overdue", 10);
+        wheel.schedule("later", 1001);
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(1000, expired::add);
+        assertEquals(List.of("overdue"), expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_pastExpiryAfterAdvance_expiresOnNextAdvance() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000);
+        wheel.advanceTo(1000, item -> { });
+        wheel.schedule("overdue", 10);
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(1000, expired::add);
+        assertEquals(List.of("overdue"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void cancel_scheduledItem_neverExpires() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.schedule("cancelled", 5000);
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(10000, expired::add);
+        assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    public void cancel_itemsSharingSlot_othersStillExpire() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        wheel.schedule("first", 10);
+        wheel.schedule("second", 10);
+        wheel.schedule("third", 10);
+        assertTrue(wheel.cancel("first"));
+        assertTrue(wheel.cancel("third"));
+        wheel.schedule("fourth", 10);
+        assertTrue(wheel.cancel("second"));
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(10, expired::add);
+        assertEquals(List.of("fourth"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void advanceTo_randomExpiries_sameAsLinearScan() {
+        Random random = new Random(2113);
+        long start = 123456;
+        TimingWheel<Integer> wheel = new TimingWheel<>(start);
+        Map<Integer, Long> expiries = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            // Spread over every level of the wheel and the overflow list
+            long expiry = start + (long) Math.pow(64, random.nextDouble() * 4.5);
+            wheel.schedule(i, expiry);
+            expiries.put(i, expiry);
+        }
+        long now = start;
+        while (!expiries.isEmpty()) {
+            now += 1 + random.nextInt(400000);
+            List<Integer> expired = new ArrayList<>();
+            wheel.advanceTo(now, expired::add);
+            List<Integer> expected = new ArrayList<>();
+            for (Map.Entry<Integer, Long> entry : expiries.entrySet()) {
+                if (entry.getValue() <= now) {
+                    expected.add(entry.getKey());
+                }
+            }
+            expected.forEach(expiries::remove);
+            expected.sort(null);
+            expired.sort(null);
+            assertEquals(expected, expired);
+        }
+        assertEquals(0, wheel.size());
+    }
+}